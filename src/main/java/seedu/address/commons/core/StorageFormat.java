@@ -0,0 +1,13 @@
+package seedu.address.commons.core;
+
+/**
+ * The formats the address book data file can be saved in.
+ */
+public enum StorageFormat {
+    /** Human-readable JSON, with changes appended to a journal next to the file. */
+    JSON,
+    /** A compact binary snapshot, which is faster to load and save. */
+    BINARY,
+    /** A directory of JSON shards, of which only those holding changed persons or events are saved again. */
+    SHARDED
+}
@@ -2,7 +2,10 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +14,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -91,6 +97,52 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Returns a parser that reads the JSON data in the given file one token at a time, without reading the whole
+     * file into memory. Parts of the data can be converted to instances of classes with
+     * {@link JsonParser#readValueAs(Class)}.
+     * @param filePath cannot be null
+     * @throws IOException if there was an error opening the file
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return createParser(new BufferedInputStream(Files.newInputStream(filePath)));
+    }
+
+    /**
+     * Returns a parser that reads the JSON data in the given stream one token at a time, as
+     * {@link #createParser(Path)} does. Closing the parser closes the stream.
+     * @param in cannot be null
+     * @throws IOException if there was an error reading from the stream
+     */
+    public static JsonParser createParser(InputStream in) throws IOException {
+        requireNonNull(in);
+        return objectMapper.getFactory().createParser(in);
+    }
+
+    /**
+     * Returns a generator that writes JSON data to the given stream one token at a time, laid out as
+     * {@link #toJsonString} lays it out. Closing the generator closes the stream.
+     * @param out cannot be null
+     * @throws IOException if there was an error writing to the stream
+     */
+    public static JsonGenerator createGenerator(OutputStream out) throws IOException {
+        requireNonNull(out);
+        return objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8).useDefaultPrettyPrinter();
+    }
+
+    /**
+     * Writes the JSON data representation of the given instance to the given stream, as {@link #toJsonString} would
+     * represent it, without building the whole representation in memory first.
+     * @param instance cannot be null
+     * @param out cannot be null, and is closed once the data has been written
+     * @throws IOException if there was an error writing to the stream
+     */
+    public static <T> void writeJson(T instance, OutputStream out) throws IOException {
+        requireNonNull(instance);
+        requireNonNull(out);
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(out, instance);
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -111,6 +163,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string without any line breaks
+     */
+    public static <T> String toSingleLineJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.beans.property.ObjectProperty;
 import javafx.collections.ObservableList;
@@ -27,6 +28,17 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler given the error message when saving the address book after a command fails.
+     * The handler may be called on a thread other than the one that executed the command.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
+    /**
+     * Waits until the address book has been saved after all the commands executed so far.
+     */
+    void flushPendingSaves();
+
     /**
      * Returns the AddressBook.
      *
@@ -1,8 +1,11 @@
 package seedu.address.logic;
 
-import java.io.IOException;
+import static java.util.Objects.requireNonNull;
+
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.beans.property.ObjectProperty;
@@ -14,15 +17,19 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ZoomIn;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
+import seedu.address.storage.AsyncAddressBookSaver;
 import seedu.address.storage.Storage;
 
 /**
  * The main LogicManager of the app.
+ * The address book is saved in the background after each command that changes it, so failures to save are reported
+ * to the handler set with {@link #setSaveFailureHandler(Consumer)} instead of failing the command.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_FORMAT = "Could not save data due to the following error: %s";
@@ -30,18 +37,34 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    /** Version of the address book before it has been saved, or after saving it has failed. */
+    private static final long UNSAVED_VERSION = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final AsyncAddressBookSaver addressBookSaver;
     private final AddressBookParser addressBookParser;
+    private volatile Consumer<String> saveFailureHandler = message -> {};
+
+    /** Version of the address book last given to be saved, so commands that do not change it skip saving. */
+    private volatile long savedVersion;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, AsyncAddressBookSaver.newSaverThread());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} that saves the address book to {@code storage} with tasks run by
+     * {@code saveExecutor}.
+     */
+    LogicManager(Model model, Storage storage, Executor saveExecutor) {
         this.model = model;
-        this.storage = storage;
+        addressBookSaver = new AsyncAddressBookSaver(storage, saveExecutor, this::reportSaveFailure);
+        savedVersion = model.getAddressBook().getVersion();
         addressBookParser = new AddressBookParser();
     }
 
@@ -53,17 +76,38 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        if (addressBook.getVersion() != savedVersion) {
+            savedVersion = addressBook.getVersion();
+            addressBookSaver.save(new AddressBookSnapshot(addressBook));
         }
 
         return commandResult;
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        requireNonNull(handler);
+        saveFailureHandler = handler;
+    }
+
+    @Override
+    public void flushPendingSaves() {
+        addressBookSaver.flush();
+    }
+
+    private void reportSaveFailure(Exception e) {
+        // Saves again after the next command, even if it does not change the address book.
+        savedVersion = UNSAVED_VERSION;
+        String message;
+        if (e instanceof AccessDeniedException) {
+            message = String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage());
+        } else {
+            message = String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
+        }
+        saveFailureHandler.accept(message);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -1,5 +1,8 @@
 package seedu.address.logic;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import seedu.address.ui.ResultDisplay;
 
 /**
@@ -12,6 +15,9 @@ public class MessageCenter {
     /** An internal state is used since resultDisplay is not initialized while initializing model. */
     private static boolean isError = false;
 
+    /** Messages appended to the end on threads that are capturing them, instead of being added to the message. */
+    private static final ThreadLocal<List<String>> capturedEnd = new ThreadLocal<>();
+
     /**
      * Initializes MessageCenter with the ResultDisplay Ui.
      */
@@ -40,9 +46,33 @@ public class MessageCenter {
         if (s.isEmpty()) {
             return;
         }
+        List<String> captured = capturedEnd.get();
+        if (captured != null) {
+            captured.add(s);
+            return;
+        }
         stringBuilder.append(s).append("\n");
     }
 
+    /**
+     * Starts capturing the strings appended to the end on the current thread, instead of adding them to the message.
+     * Work done in parallel can capture its strings, and append them in a fixed order once it is done.
+     */
+    public static void startCapturingEnd() {
+        capturedEnd.set(new ArrayList<>());
+    }
+
+    /**
+     * Stops capturing the strings appended to the end on the current thread.
+     *
+     * @return the strings appended since capturing started, in the order they were appended.
+     */
+    public static List<String> stopCapturingEnd() {
+        List<String> captured = capturedEnd.get();
+        capturedEnd.remove();
+        return captured == null ? List.of() : captured;
+    }
+
     /**
      * This method is called when something has gone wrong during launch of program or execution of command.
      * Sets the style of the result display to error.
@@ -53,21 +53,22 @@ public class AttendCommand extends Command {
     /**
      * Creates and returns a {@code Event} with the new attendance list.
      */
-    private static Event createEditedEvent(Event eventToEdit, List<PersonReference> personsToAdd) {
+    private static Event createEditedEvent(Event eventToEdit, List<Person> personsToAdd) {
         assert eventToEdit != null;
 
         EventName name = eventToEdit.getName();
         Duration duration = eventToEdit.getDuration();
         Description description = eventToEdit.getDescription();
         Attendance updatedAttendance = new Attendance(eventToEdit.getAttendance());
-        for (PersonReference p : personsToAdd) {
-            if (updatedAttendance.contains(p)) {
+        for (Person p : personsToAdd) {
+            PersonReference reference = new PersonReference(p);
+            if (updatedAttendance.contains(reference)) {
                 MessageCenter.appendEnd(
                         String.format("Warning: %s is already in the event's attendance list. "
                                         + "Person not added.",
                                 p.getName().fullName));
             } else {
-                updatedAttendance.add(p);
+                updatedAttendance.add(reference);
             }
         }
         return new Event(name, duration, description, updatedAttendance);
@@ -88,12 +89,12 @@ public class AttendCommand extends Command {
         }
 
         Event eventToEdit = model.getFilteredEventList().get(event.getZeroBased());
-        List<PersonReference> personsToAdd = new ArrayList<>();
+        List<Person> personsToAdd = new ArrayList<>();
 
         for (Index i : attendees) {
             if (i.getZeroBased() < model.getFilteredPersonList().size()) {
                 Person p = model.getFilteredPersonList().get(i.getZeroBased());
-                personsToAdd.add(new PersonReference(p));
+                personsToAdd.add(p);
             } else {
                 throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
             }
@@ -101,8 +102,8 @@ public class AttendCommand extends Command {
 
         // Convert to names to display text result of names added.
         List<Name> names = personsToAdd.stream()
-                .filter(p -> !eventToEdit.getAttendance().contains(p))
-                .map(PersonReference::getName)
+                .filter(p -> !eventToEdit.getAttendance().contains(new PersonReference(p)))
+                .map(Person::getName)
                 .toList();
 
         Event edittedEvent = createEditedEvent(eventToEdit, personsToAdd);
@@ -83,7 +83,7 @@ public class EditCommand extends Command {
 
     /**
      * Creates and returns a {@code Person} with the details of {@code personToEdit}
-     * edited with {@code editPersonDescriptor}.
+     * edited with {@code editPersonDescriptor}. The edited person keeps the id of {@code personToEdit}.
      */
     private static Person createEditedPerson(Person personToEdit, EditPersonDescriptor editPersonDescriptor) {
         assert personToEdit != null;
@@ -102,7 +102,7 @@ public class EditCommand extends Command {
                 editPersonDescriptor.getEmergencyContact().orElse(new EmergencyContact());
         EmergencyContact updatedEmergencyContact = personToEdit.getEmergencyContact().merge(editEmergencyContact);
 
-        return new Person(updatedName, updatedPhone, updatedEmail, updatedAddress, updatedPin,
+        return new Person(personToEdit.getId(), updatedName, updatedPhone, updatedEmail, updatedAddress, updatedPin,
                 updatedRoles, updatedTags, updatedEmergencyContact, updatedEnrollYear);
     }
 
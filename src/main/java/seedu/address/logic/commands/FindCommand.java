@@ -16,27 +16,40 @@ import seedu.address.model.person.Person;
 
 /**
  * Finds and lists all persons in address book whose selected field matches any of the argument keywords.
- * Keyword matching is case-insensitive.
+ * Keyword matching is case-insensitive. The fields can be combined into a boolean expression.
  */
 public class FindCommand extends Command {
     public static final String COMMAND_WORD = "find";
+    public static final String EXPLAIN_FLAG = "explain";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose "
             + "fields satisfy certain constraints. Names or tags containing the specified keywords (case-insensitive),"
             + " or roles containing the specified substrings, and"
             + " or enrollment year satisfying the specified constraint, and"
             + " displays them as a list with index numbers.\n"
-            + "Parameters: At most one of each of the following: "
+            + "Parameters: [" + EXPLAIN_FLAG + "] At most one of each of the following: "
             + "[" + PREFIX_NAME + "KEYWORD [MORE_KEYWORDS]...] "
             + "[" + PREFIX_TAG + "KEYWORD [MORE_KEYWORDS]...] "
             + "[" + PREFIX_ENROLL_YEAR + "[OP YEAR]] "
-            + "[" + PREFIX_ROLE + "SUBSTRING]..."
-            + "\nExample: " + COMMAND_WORD + " " + PREFIX_NAME + "alice bob charlie";
+            + "[" + PREFIX_ROLE + "SUBSTRING]...\n"
+            + "These can also be combined with \\AND, \\OR, \\NOT and grouped with \\( \\).\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_NAME + "alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " \\(" + PREFIX_TAG + "friends \\OR " + PREFIX_ROLE + "president\\) "
+            + "\\AND \\NOT " + PREFIX_ENROLL_YEAR + "<2023";
 
     private final Predicate<Person> predicate;
+    private final boolean isExplain;
 
     public FindCommand(Predicate<Person> predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Creates a FindCommand that also shows how the persons are found if {@code isExplain} is true.
+     */
+    public FindCommand(Predicate<Person> predicate, boolean isExplain) {
         this.predicate = predicate;
+        this.isExplain = isExplain;
     }
 
     @Override
@@ -48,8 +61,11 @@ public class FindCommand extends Command {
         }
 
         model.updateFilteredPersonList(predicate);
-        return new CommandResult(
-                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+        String feedback = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size());
+        if (isExplain) {
+            feedback += "\n" + model.explainFilteredPersonList();
+        }
+        return new CommandResult(feedback);
     }
 
     @Override
@@ -64,13 +80,15 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return predicate.equals(otherFindCommand.predicate)
+                && isExplain == otherFindCommand.isExplain;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("isExplain", isExplain)
                 .toString();
     }
 }
@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.core.index.Index;
@@ -13,7 +14,6 @@ import seedu.address.model.Model;
 import seedu.address.model.ZoomIn;
 import seedu.address.model.ZoomInType;
 import seedu.address.model.event.Event;
-import seedu.address.model.event.PersonReference;
 import seedu.address.model.person.Person;
 
 /**
@@ -52,7 +52,7 @@ public class StudentEventCommand extends Command {
 
         Person targetPerson = lastShownList.get(targetIndex.getZeroBased());
         model.updateFilteredPersonAndEventList(makeTargetPersonPredicate(targetPerson),
-                makeAttendedByPredicate(targetPerson),
+                makeAttendedByPredicate(model.getEventsAttendedBy(targetPerson)),
                 new ZoomIn(ZoomInType.PERSON, targetPerson, null));
 
         String message;
@@ -99,13 +99,13 @@ public class StudentEventCommand extends Command {
     }
 
     /**
-     * Creates a predicate that returns true if and only if the event is attended by the given attendee.
+     * Creates a predicate that returns true if and only if the event is one of the given attended events.
      */
-    private Predicate<Event> makeAttendedByPredicate(Person attendee) {
+    private Predicate<Event> makeAttendedByPredicate(Set<Event> attendedEvents) {
         return new Predicate<Event>() {
             @Override
             public boolean test(Event event) {
-                return event.getAttendance().contains(new PersonReference(attendee));
+                return attendedEvents.contains(event);
             }
         };
     }
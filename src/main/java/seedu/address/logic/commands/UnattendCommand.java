@@ -5,6 +5,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PERSON;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
@@ -16,6 +17,8 @@ import seedu.address.model.event.Duration;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventName;
 import seedu.address.model.event.PersonReference;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 
 /**
  * Removes the list of persons to the attendance list of an event.
@@ -71,21 +74,27 @@ public class UnattendCommand extends Command {
         }
 
         Event event = model.getFilteredEventList().get(eventIndex.getZeroBased());
-        Attendance attendance = event.getAttendance();
-        List<PersonReference> personList = attendance.asUnmodifiableList();
-        List<PersonReference> personsToRemove = new ArrayList<>();
-
+        List<PersonReference> attendance = event.getAttendance().asUnmodifiableList();
         for (Index i : attendees) {
-            if (i.getZeroBased() < personList.size()) {
-                personsToRemove.add(personList.get(i.getZeroBased()));
-            } else {
+            if (i.getZeroBased() >= attendance.size()) {
                 throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
             }
         }
+        List<PersonReference> personsToRemove = new ArrayList<>();
+        for (Index i : attendees) {
+            personsToRemove.add(attendance.get(i.getZeroBased()));
+        }
+
+        // Convert to names to display text result of names removed.
+        List<Name> names = personsToRemove.stream()
+                .map(p -> model.getAddressBook().getPerson(p))
+                .flatMap(Optional::stream)
+                .map(Person::getName)
+                .toList();
 
         Event editedEvent = createEditedEvent(event, personsToRemove);
         model.setEvent(event, editedEvent);
 
-        return new CommandResult(String.format(MESSAGE_SUCCESS, personsToRemove));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, names));
     }
 }
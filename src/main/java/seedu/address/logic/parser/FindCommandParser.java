@@ -9,23 +9,45 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.AnyPredicate;
 import seedu.address.model.person.EnrollmentYearPredicate;
 import seedu.address.model.person.MultiPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NotPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.role.Role;
 import seedu.address.model.role.RolesContainSubstringsPredicate;
 import seedu.address.model.tag.TagsContainKeywordsPredicate;
 
 /**
- * Parses input arguments, prefix field, and creates a new FindCommand object
+ * Parses input arguments, prefix field, and creates a new FindCommand object.
+ * The prefix fields can be combined with the {@code \AND}, {@code \OR} and {@code \NOT} operators and grouped
+ * with {@code \(} and {@code \)}. Prefix fields next to each other without an operator are combined with
+ * {@code \AND}. The operators are marked with a backslash, which no prefix field can contain, so that names such as
+ * {@code Tan (Jr)} or {@code Or} are still searched for as before.
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    private static final String OPERATOR_MARK = "\\";
+    private static final String OPERATOR_AND = OPERATOR_MARK + "AND";
+    private static final String OPERATOR_OR = OPERATOR_MARK + "OR";
+    private static final String OPERATOR_NOT = OPERATOR_MARK + "NOT";
+    private static final String OPEN_PARENTHESIS = OPERATOR_MARK + "(";
+    private static final String CLOSE_PARENTHESIS = OPERATOR_MARK + ")";
+    private static final Set<String> OPERATORS =
+            Set.of(OPERATOR_AND, OPERATOR_OR, OPERATOR_NOT, OPEN_PARENTHESIS, CLOSE_PARENTHESIS);
+    /** Matches a parenthesis, which may be written next to a prefix field, or a word up to the next one. */
+    private static final Pattern TOKEN = Pattern.compile("\\\\[()]|(?:(?!\\\\[()])\\S)+");
+    private static final Prefix[] PREFIXES = {PREFIX_NAME, PREFIX_TAG, PREFIX_ROLE, PREFIX_ENROLL_YEAR};
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
@@ -33,8 +55,159 @@ public class FindCommandParser implements Parser<FindCommand> {
      * @throws ParseException if the user input does not conform to the expected format
      */
     public FindCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_TAG,
-                PREFIX_ROLE, PREFIX_ENROLL_YEAR);
+        String expression = args;
+        boolean isExplain = false;
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.split("\\s+")[0].equals(FindCommand.EXPLAIN_FLAG)) {
+            expression = trimmedArgs.substring(FindCommand.EXPLAIN_FLAG.length());
+            isExplain = true;
+        }
+
+        TokenCursor cursor = tokenize(expression);
+        if (!cursor.hasOperator()) {
+            return new FindCommand(new MultiPredicate(parseTerm(expression)), isExplain);
+        }
+
+        Predicate<Person> predicate = parseOr(cursor);
+        if (cursor.peek() != null) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return new FindCommand(predicate, isExplain);
+    }
+
+    /**
+     * Splits {@code expression} into operators, parentheses and the words of the prefix fields.
+     * Operators are recognised in any case, such as {@code \or}.
+     */
+    private static TokenCursor tokenize(String expression) {
+        List<String> tokens = new ArrayList<>();
+        List<Integer> starts = new ArrayList<>();
+        List<Integer> ends = new ArrayList<>();
+        Matcher matcher = TOKEN.matcher(expression);
+        while (matcher.find()) {
+            String token = matcher.group();
+            String operator = token.toUpperCase(Locale.ROOT);
+            tokens.add(OPERATORS.contains(operator) ? operator : token);
+            starts.add(matcher.start());
+            ends.add(matcher.end());
+        }
+        return new TokenCursor(expression, tokens, starts, ends);
+    }
+
+    /**
+     * Parses {@code expr := and (\OR and)*}.
+     */
+    private static Predicate<Person> parseOr(TokenCursor cursor) throws ParseException {
+        List<Predicate<Person>> alternatives = new ArrayList<>();
+        alternatives.add(parseAnd(cursor));
+        while (OPERATOR_OR.equals(cursor.peek())) {
+            cursor.next();
+            alternatives.add(parseAnd(cursor));
+        }
+        return AnyPredicate.of(alternatives);
+    }
+
+    /**
+     * Parses {@code and := unary ([\AND] unary)*}.
+     */
+    private static Predicate<Person> parseAnd(TokenCursor cursor) throws ParseException {
+        List<Predicate<Person>> terms = new ArrayList<>();
+        terms.add(parseUnary(cursor));
+        while (cursor.peek() != null && !OPERATOR_OR.equals(cursor.peek())
+                && !CLOSE_PARENTHESIS.equals(cursor.peek())) {
+            if (OPERATOR_AND.equals(cursor.peek())) {
+                cursor.next();
+            }
+            terms.add(parseUnary(cursor));
+        }
+        return MultiPredicate.of(terms);
+    }
+
+    /**
+     * Parses {@code unary := \NOT unary | \( expr \) | prefix fields}.
+     */
+    private static Predicate<Person> parseUnary(TokenCursor cursor) throws ParseException {
+        String token = cursor.peek();
+        if (OPERATOR_NOT.equals(token)) {
+            cursor.next();
+            return NotPredicate.of(parseUnary(cursor));
+        }
+        if (OPEN_PARENTHESIS.equals(token)) {
+            cursor.next();
+            Predicate<Person> predicate = parseOr(cursor);
+            if (!CLOSE_PARENTHESIS.equals(cursor.peek())) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            cursor.next();
+            return predicate;
+        }
+        if (token == null || OPERATORS.contains(token)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+
+        int start = cursor.position;
+        while (cursor.peek() != null && !OPERATORS.contains(cursor.peek())) {
+            cursor.next();
+        }
+        return MultiPredicate.of(parseTerm(cursor.getText(start, cursor.position)));
+    }
+
+    /**
+     * The position of the parser in the tokens of one expression, so that the parser itself holds no state.
+     * The tokens keep where they are in the expression, so that the prefix fields between two operators are parsed
+     * as they were typed, with the spaces inside them kept.
+     */
+    private static class TokenCursor {
+        private final String expression;
+        private final List<String> tokens;
+        private final List<Integer> starts;
+        private final List<Integer> ends;
+        private int position;
+
+        TokenCursor(String expression, List<String> tokens, List<Integer> starts, List<Integer> ends) {
+            this.expression = expression;
+            this.tokens = tokens;
+            this.starts = starts;
+            this.ends = ends;
+        }
+
+        /**
+         * Returns true if any of the tokens is an operator or a parenthesis.
+         */
+        boolean hasOperator() {
+            return tokens.stream().anyMatch(OPERATORS::contains);
+        }
+
+        /**
+         * Returns the part of the expression from the token at {@code from} up to, but not including, the token at
+         * {@code to}.
+         */
+        String getText(int from, int to) {
+            return expression.substring(starts.get(from), ends.get(to - 1));
+        }
+
+        /**
+         * Returns the current token, or null if all the tokens have been read.
+         */
+        String peek() {
+            return position < tokens.size() ? tokens.get(position) : null;
+        }
+
+        /**
+         * Returns the current token and moves past it.
+         */
+        String next() {
+            return tokens.get(position++);
+        }
+    }
+
+    /**
+     * Parses prefix fields that are not combined with any operator into the predicates that a person must satisfy.
+     *
+     * @throws ParseException if the prefix fields do not conform to the expected format
+     */
+    private static List<Predicate<Person>> parseTerm(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + args, PREFIXES);
 
         if (!argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
@@ -100,6 +273,6 @@ public class FindCommandParser implements Parser<FindCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        return new FindCommand(new MultiPredicate(predicates));
+        return predicates;
     }
 }
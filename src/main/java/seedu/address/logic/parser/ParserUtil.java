@@ -168,7 +168,7 @@ public class ParserUtil {
             throw new ParseException(Role.MESSAGE_CONSTRAINTS);
         }
         MessageCenter.appendEnd(Role.getStyleWarningMessage(trimmedRole));
-        return new Role(trimmedRole);
+        return Role.of(trimmedRole);
     }
 
     /**
@@ -198,7 +198,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
 
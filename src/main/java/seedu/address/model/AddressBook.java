@@ -2,20 +2,32 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import javafx.beans.property.ObjectProperty;
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.SortUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.event.Attendance;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.PersonReference;
 import seedu.address.model.event.UniqueEventList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -24,11 +36,37 @@ import seedu.address.model.person.UniquePersonList;
  * AddressBook is sorted according to the specified sort method at all times.
  */
 public class AddressBook implements ReadOnlyAddressBook {
+    private static final int MAX_RECORDED_CHANGES = 1000;
 
     private final UniquePersonList persons;
     private final UniqueEventList events;
     private Comparator<Person> sortMethod = SortUtil.SORT_DEFAULT_PIN;
 
+    /**
+     * Events attended by each person, so that cascading edits and zooming in on a person only touch the events
+     * of that person. Events are compared by reference.
+     */
+    private final Map<PersonReference, Set<Event>> attendedEvents = new HashMap<>();
+
+    /**
+     * Number of changes made to the persons and events, so that results derived from them can tell if they are stale.
+     */
+    private long version = 0;
+
+    /**
+     * The most recent changes. Replacing all persons or events is not recorded as a change, but discards the changes
+     * recorded before it instead.
+     */
+    private RecordedChanges changes = RecordedChanges.EMPTY;
+
+    /**
+     * Unmodifiable copies of the person and event lists, shared by the snapshots taken until the list next changes,
+     * or null if the list has changed since the copy was last asked for. Every change to a list must clear its copy.
+     * Events in the event list are never changed in place, only replaced, so the copies can share them.
+     */
+    private ObservableList<Person> personListCopy;
+    private ObservableList<Event> eventListCopy;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -51,14 +89,30 @@ public class AddressBook implements ReadOnlyAddressBook {
         resetData(toBeCopied);
     }
 
+    /**
+     * Creates an AddressBook with {@code persons} and {@code events} all at once, which sorts the persons once
+     * instead of keeping them sorted while adding them one at a time.
+     * {@code persons} must not contain duplicate persons, and {@code events} must not contain duplicate events.
+     */
+    public AddressBook(List<Person> persons, List<Event> events) {
+        this();
+        setPersons(persons);
+        setEvents(events);
+    }
+
     //// list overwrite operations
 
     /**
-     * Replaces the contents of the person list with {@code persons}.
+     * Replaces the contents of the person list with {@code persons}, sorted by the current sort method.
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
-        this.persons.setPersons(persons);
+        // Sorts before replacing, so the person list changes only once.
+        List<Person> sortedPersons = new ArrayList<>(persons);
+        sortedPersons.sort(sortMethod);
+        this.persons.setPersons(sortedPersons);
+        personListCopy = null;
+        discardChanges();
     }
 
     /**
@@ -67,6 +121,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setEvents(List<Event> events) {
         this.events.setEvents(events);
+        eventListCopy = null;
+        discardChanges();
+        attendedEvents.clear();
+        this.events.forEach(this::indexAttendance);
     }
 
     /**
@@ -95,7 +153,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addEvent(Event e) {
         events.add(e);
-        sort();
+        eventListCopy = null;
+        recordChange(AddressBookChange.addEvent(e));
+        indexAttendance(e);
     }
 
     /**
@@ -106,7 +166,10 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setEvent(Event target, Event editedEvent) {
         requireNonNull(editedEvent);
         events.setEvent(target, editedEvent);
-        sort();
+        eventListCopy = null;
+        recordChange(AddressBookChange.setEvent(target, editedEvent));
+        unindexAttendance(target);
+        indexAttendance(editedEvent);
     }
 
     /**
@@ -115,6 +178,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeEvent(Event key) {
         events.remove(key);
+        eventListCopy = null;
+        recordChange(AddressBookChange.removeEvent(key));
+        unindexAttendance(key);
     }
 
     /**
@@ -132,6 +198,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void clearEvent() {
         events.clear();
+        eventListCopy = null;
+        recordChange(AddressBookChange.clearEvents());
+        attendedEvents.clear();
     }
 
     //// person-level operations
@@ -145,29 +214,36 @@ public class AddressBook implements ReadOnlyAddressBook {
     }
 
     /**
-     * Adds a person to the address book.
+     * Adds a person to the address book, at its position under the current sort method.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
-        persons.add(p);
-        sort();
+        persons.add(p, sortMethod);
+        personListCopy = null;
+        recordChange(AddressBookChange.addPerson(p));
     }
 
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     * If {@code editedPerson} keeps the id of {@code target}, the attendance of events is left untouched.
      */
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
-        events.forEach(e -> {
-            if (e.getAttendance().contains(new PersonReference(target))) {
-                e.getAttendance().remove(new PersonReference(target));
-                e.getAttendance().add(new PersonReference(editedPerson));
-            }
+        persons.setPerson(target, editedPerson, sortMethod);
+        personListCopy = null;
+        recordChange(AddressBookChange.setPerson(target.getId(), editedPerson));
+        if (target.getId() == editedPerson.getId()) {
+            return;
+        }
+
+        PersonReference targetReference = new PersonReference(target);
+        PersonReference editedReference = new PersonReference(editedPerson);
+        updateAttendanceOf(targetReference, attendance -> {
+            attendance.remove(targetReference);
+            attendance.add(editedReference);
         });
-        persons.setPerson(target, editedPerson);
-        sort();
     }
 
     /**
@@ -185,11 +261,30 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
-        events.forEach(e -> {
-            if (e.getAttendance().contains(new PersonReference(key))) {
-                e.getAttendance().remove(new PersonReference(key));
-            }
-        });
+        personListCopy = null;
+        recordChange(AddressBookChange.removePerson(key.getId()));
+
+        PersonReference keyReference = new PersonReference(key);
+        updateAttendanceOf(keyReference, attendance -> attendance.remove(keyReference));
+    }
+
+    /**
+     * Replaces each event attended by {@code person} with a copy whose attendance is updated by {@code update}.
+     * Events are replaced rather than updated in place, so that snapshots of the address book can share them.
+     */
+    private void updateAttendanceOf(PersonReference person, Consumer<Attendance> update) {
+        Set<Event> eventsAttended = attendedEvents.remove(person);
+        if (eventsAttended == null) {
+            return;
+        }
+        for (Event event : eventsAttended) {
+            Event updatedEvent = new Event(event);
+            update.accept(updatedEvent.getAttendance());
+            events.replace(event, updatedEvent);
+            eventListCopy = null;
+            unindexAttendance(event);
+            indexAttendance(updatedEvent);
+        }
     }
 
     /**
@@ -197,8 +292,144 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void clearPerson() {
         persons.clear();
-        events.setEvents(events.asUnmodifiableObservableList()
-                .stream().peek(e -> e.getAttendance().clear()).toList());
+        personListCopy = null;
+        recordChange(AddressBookChange.clearPersons());
+        events.setEvents(events.asUnmodifiableObservableList().stream()
+                .map(e -> new Event(e.getName(), e.getDuration(), e.getDescription(), new Attendance()))
+                .toList());
+        eventListCopy = null;
+        attendedEvents.clear();
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public Optional<List<AddressBookChange>> getChangesSince(long version) {
+        return getChangesSince(changes, this.version, version);
+    }
+
+    /**
+     * Returns the changes in {@code changes}, the last of which brought an address book to {@code currentVersion},
+     * that were made after {@code version}, or an empty {@code Optional} if they are not all recorded.
+     */
+    static Optional<List<AddressBookChange>> getChangesSince(RecordedChanges changes, long currentVersion,
+            long version) {
+        long changeCount = currentVersion - version;
+        if (changeCount < 0 || changeCount > changes.size()) {
+            return Optional.empty();
+        }
+        return Optional.of(changes.getLatest((int) changeCount));
+    }
+
+    /**
+     * Returns the changes still recorded. The last of them brought the address book to its current version.
+     */
+    RecordedChanges getRecordedChanges() {
+        return changes;
+    }
+
+    /**
+     * Returns an unmodifiable copy of the person list, which is only copied again once the list has changed.
+     */
+    ObservableList<Person> getPersonListCopy() {
+        if (personListCopy == null) {
+            personListCopy = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(persons.asUnmodifiableObservableList()));
+        }
+        return personListCopy;
+    }
+
+    /**
+     * Returns an unmodifiable copy of the event list, which is only copied again once the list has changed.
+     */
+    ObservableList<Event> getEventListCopy() {
+        if (eventListCopy == null) {
+            eventListCopy = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(events.asUnmodifiableObservableList()));
+        }
+        return eventListCopy;
+    }
+
+    /**
+     * Records {@code change} as the latest change made to the address book.
+     */
+    private void recordChange(AddressBookChange change) {
+        version++;
+        changes = changes.record(change, MAX_RECORDED_CHANGES);
+    }
+
+    /**
+     * Marks the address book as changed in a way that is not recorded, so that the changes made before can no
+     * longer be used to bring a copy of the address book up to date.
+     */
+    private void discardChanges() {
+        version++;
+        changes = RecordedChanges.EMPTY;
+    }
+
+    /**
+     * Returns the search index over the persons in the address book.
+     */
+    public PersonSearchIndex getPersonSearchIndex() {
+        return persons.getSearchIndex();
+    }
+
+    /**
+     * Returns an unmodifiable view of the events attended by {@code person}, which looks the person up on every call,
+     * so that it also reflects the events attended after it was returned.
+     */
+    public Set<Event> getEventsAttendedBy(Person person) {
+        requireNonNull(person);
+        PersonReference reference = new PersonReference(person);
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Event> iterator() {
+                return Collections.unmodifiableSet(eventsAttendedBy(reference)).iterator();
+            }
+
+            @Override
+            public int size() {
+                return eventsAttendedBy(reference).size();
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return eventsAttendedBy(reference).contains(o);
+            }
+        };
+    }
+
+    private Set<Event> eventsAttendedBy(PersonReference reference) {
+        return attendedEvents.getOrDefault(reference, Collections.emptySet());
+    }
+
+    /**
+     * Adds {@code event} to the attended events of everyone in its attendance.
+     */
+    private void indexAttendance(Event event) {
+        for (PersonReference p : event.getAttendance().asUnmodifiableSet()) {
+            attendedEvents.computeIfAbsent(p, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(event);
+        }
+    }
+
+    /**
+     * Removes {@code event} from the attended events of everyone in its attendance.
+     * The instance held by the index is found by identity, as {@code event} may only be equal to it.
+     */
+    private void unindexAttendance(Event event) {
+        for (PersonReference p : event.getAttendance().asUnmodifiableSet()) {
+            Set<Event> eventsAttended = attendedEvents.get(p);
+            if (eventsAttended != null) {
+                eventsAttended.removeIf(event::isSameEvent);
+                if (eventsAttended.isEmpty()) {
+                    attendedEvents.remove(p);
+                }
+            }
+        }
     }
 
     //// sort methods
@@ -206,6 +437,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     /** Sorts the contents of the person list with the current AddressBook sort method. */
     public void sort() {
         persons.sort(sortMethod);
+        personListCopy = null;
     }
 
     /**
@@ -215,6 +447,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void sort(Comparator<Person> personComparator) {
         sortMethod = personComparator;
         persons.sort(personComparator);
+        personListCopy = null;
     }
 
     //// methods
@@ -226,13 +459,23 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @throws DataLoadingException if any {@code PersonReference} does not reference a person in the person list.
      */
     public void isValidAddressBook() throws DataLoadingException {
-        Set<PersonReference> personList = persons.asUnmodifiableObservableList()
+        checkPersonReferences(persons.asUnmodifiableObservableList(), events.asUnmodifiableObservableList());
+    }
+
+    /**
+     * Checks that every {@code PersonReference} in the attendance of {@code events} references one of
+     * {@code persons}.
+     *
+     * @throws DataLoadingException if any {@code PersonReference} does not reference one of {@code persons}.
+     */
+    static void checkPersonReferences(List<Person> persons, List<Event> events) throws DataLoadingException {
+        Set<PersonReference> personList = persons
                 .stream()
                 .map(PersonReference::new)
                 .collect(Collectors.toUnmodifiableSet());
 
-        Set<PersonReference> personReferences = events.asUnmodifiableObservableList().stream()
-                .flatMap(e -> e.getAttendance().asUnmodifiableList().stream())
+        Set<PersonReference> personReferences = events.stream()
+                .flatMap(e -> e.getAttendance().asUnmodifiableSet().stream())
                 .collect(Collectors.toSet());
 
         // If a reference exists in the person list, it will be removed. This should become empty.
@@ -240,7 +483,7 @@ public class AddressBook implements ReadOnlyAddressBook {
 
         if (!personReferences.isEmpty()) {
             throw new DataLoadingException("Error: Following person references in event attendance is invalid: "
-                    + personReferences.stream().map(PersonReference::getName));
+                    + personReferences);
         }
     }
 
@@ -274,6 +517,12 @@ public class AddressBook implements ReadOnlyAddressBook {
         return events.getObservableSelectedEvent();
     }
 
+    @Override
+    public Optional<Person> getPerson(PersonReference reference) {
+        requireNonNull(reference);
+        return persons.getById(reference.getId());
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
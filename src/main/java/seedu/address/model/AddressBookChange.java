@@ -0,0 +1,166 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.PersonReference;
+import seedu.address.model.event.exceptions.EventNotFoundException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+
+/**
+ * Represents a change made to the persons or events of an {@code AddressBook}, which can be applied again to an
+ * address book holding the same data as the changed address book did before the change.
+ * Persons are identified by their id and events by {@link Event#isSameEvent(Event)}. Events are copied, so that
+ * the attendance of an event in the address book can be updated in place without affecting the change.
+ */
+public class AddressBookChange {
+
+    /**
+     * Represents the kinds of changes that can be made to an address book.
+     */
+    public enum Type {
+        ADD_PERSON,
+        SET_PERSON,
+        REMOVE_PERSON,
+        CLEAR_PERSONS,
+        ADD_EVENT,
+        SET_EVENT,
+        REMOVE_EVENT,
+        CLEAR_EVENTS
+    }
+
+    private final Type type;
+    private final int targetPersonId;
+    private final Person person;
+    private final Event targetEvent;
+    private final Event event;
+
+    private AddressBookChange(Type type, int targetPersonId, Person person, Event targetEvent, Event event) {
+        this.type = type;
+        this.targetPersonId = targetPersonId;
+        this.person = person;
+        this.targetEvent = targetEvent;
+        this.event = event;
+    }
+
+    public static AddressBookChange addPerson(Person person) {
+        requireNonNull(person);
+        return new AddressBookChange(Type.ADD_PERSON, person.getId(), person, null, null);
+    }
+
+    public static AddressBookChange setPerson(int targetPersonId, Person editedPerson) {
+        requireNonNull(editedPerson);
+        return new AddressBookChange(Type.SET_PERSON, targetPersonId, editedPerson, null, null);
+    }
+
+    public static AddressBookChange removePerson(int targetPersonId) {
+        return new AddressBookChange(Type.REMOVE_PERSON, targetPersonId, null, null, null);
+    }
+
+    public static AddressBookChange clearPersons() {
+        return new AddressBookChange(Type.CLEAR_PERSONS, 0, null, null, null);
+    }
+
+    public static AddressBookChange addEvent(Event event) {
+        requireNonNull(event);
+        return new AddressBookChange(Type.ADD_EVENT, 0, null, null, new Event(event));
+    }
+
+    /**
+     * Returns a change that replaces the event that is the same event as {@code targetEvent} with {@code editedEvent}.
+     */
+    public static AddressBookChange setEvent(Event targetEvent, Event editedEvent) {
+        requireNonNull(targetEvent);
+        requireNonNull(editedEvent);
+        return new AddressBookChange(Type.SET_EVENT, 0, null, new Event(targetEvent), new Event(editedEvent));
+    }
+
+    /**
+     * Returns a change that removes the event that is the same event as {@code targetEvent}.
+     */
+    public static AddressBookChange removeEvent(Event targetEvent) {
+        requireNonNull(targetEvent);
+        return new AddressBookChange(Type.REMOVE_EVENT, 0, null, new Event(targetEvent), null);
+    }
+
+    public static AddressBookChange clearEvents() {
+        return new AddressBookChange(Type.CLEAR_EVENTS, 0, null, null, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the id of the person that is set or removed.
+     */
+    public int getTargetPersonId() {
+        return targetPersonId;
+    }
+
+    /**
+     * Returns the person that is added, or that the target person is set to.
+     */
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Returns the event that is set or removed.
+     */
+    public Event getTargetEvent() {
+        return targetEvent;
+    }
+
+    /**
+     * Returns the event that is added, or that the target event is set to.
+     */
+    public Event getEvent() {
+        return event;
+    }
+
+    /**
+     * Makes this change to {@code addressBook}.
+     *
+     * @throws PersonNotFoundException if the person to set or remove is not in the address book.
+     * @throws EventNotFoundException if the event to set or remove is not in the address book.
+     */
+    public void applyTo(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        switch (type) {
+        case ADD_PERSON -> addressBook.addPerson(person);
+        case SET_PERSON -> addressBook.setPerson(findTargetPerson(addressBook), person);
+        case REMOVE_PERSON -> addressBook.removePerson(findTargetPerson(addressBook));
+        case CLEAR_PERSONS -> addressBook.clearPerson();
+        case ADD_EVENT -> addressBook.addEvent(new Event(event));
+        case SET_EVENT -> addressBook.setEvent(findTargetEvent(addressBook), new Event(event));
+        case REMOVE_EVENT -> addressBook.removeEvent(findTargetEvent(addressBook));
+        case CLEAR_EVENTS -> addressBook.clearEvent();
+        default -> throw new AssertionError("Unknown change type: " + type);
+        }
+    }
+
+    private Person findTargetPerson(AddressBook addressBook) {
+        return addressBook.getPerson(new PersonReference(targetPersonId)).orElseThrow(PersonNotFoundException::new);
+    }
+
+    private Event findTargetEvent(AddressBook addressBook) {
+        return addressBook.getEventList().stream()
+                .filter(targetEvent::isSameEvent)
+                .findFirst()
+                .orElseThrow(EventNotFoundException::new);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("type", type)
+                .add("targetPersonId", targetPersonId)
+                .add("person", person)
+                .add("targetEvent", targetEvent)
+                .add("event", event)
+                .toString();
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableObjectValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.PersonReference;
+import seedu.address.model.person.Person;
+
+/**
+ * An unmodifiable copy of an address book as it was at one version, which can be read on another thread while the
+ * address book itself keeps changing.
+ * Persons and events are shared with the address book, as an {@code AddressBook} never changes them in place. The
+ * person and event lists are only copied if they have changed since the last snapshot of the same address book, and
+ * the recorded changes are shared rather than copied. Nothing is selected in a snapshot.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+    private final ReadOnlyAddressBook source;
+    private final ObservableList<Person> persons;
+    private final ObservableList<Event> events;
+    private final long version;
+
+    /** Changes recorded by the source up to {@link #version}. */
+    private final RecordedChanges changes;
+
+    /**
+     * Captures the current persons, events and recorded changes of {@code source}.
+     */
+    public AddressBookSnapshot(ReadOnlyAddressBook source) {
+        requireNonNull(source);
+        this.source = source instanceof AddressBookSnapshot ? ((AddressBookSnapshot) source).source : source;
+        version = source.getVersion();
+        if (source instanceof AddressBook) {
+            AddressBook addressBook = (AddressBook) source;
+            persons = addressBook.getPersonListCopy();
+            events = addressBook.getEventListCopy();
+            changes = addressBook.getRecordedChanges();
+        } else if (source instanceof AddressBookSnapshot) {
+            AddressBookSnapshot snapshot = (AddressBookSnapshot) source;
+            persons = snapshot.persons;
+            events = snapshot.events;
+            changes = snapshot.changes;
+        } else {
+            // Other address books may change their events in place.
+            persons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(source.getPersonList()));
+            events = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(
+                    source.getEventList().stream().map(Event::new).toList()));
+            changes = RecordedChanges.EMPTY;
+        }
+    }
+
+    /**
+     * Returns the address book this snapshot was captured from.
+     * Snapshots captured from the same address book share the same source, even if they were captured at different
+     * versions, so a snapshot can be brought up to date with the changes of a later snapshot of the same source.
+     */
+    public ReadOnlyAddressBook getSource() {
+        return source;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableObjectValue<Person> getSelectedPerson() {
+        return new SimpleObjectProperty<>();
+    }
+
+    @Override
+    public ObservableList<Event> getEventList() {
+        return events;
+    }
+
+    @Override
+    public ObservableObjectValue<Event> getSelectedEvent() {
+        return new SimpleObjectProperty<>();
+    }
+
+    @Override
+    public Optional<Person> getPerson(PersonReference reference) {
+        requireNonNull(reference);
+        return persons.stream().filter(person -> person.getId() == reference.getId()).findFirst();
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public Optional<List<AddressBookChange>> getChangesSince(long version) {
+        return AddressBook.getChangesSince(changes, this.version, version);
+    }
+
+    @Override
+    public void isValidAddressBook() throws DataLoadingException {
+        AddressBook.checkPersonReferences(persons, events);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .add("events", events)
+                .add("version", version)
+                .toString();
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.AnyPredicate;
+import seedu.address.model.person.IndexedPredicate;
+import seedu.address.model.person.MultiPredicate;
+import seedu.address.model.person.NotPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Remembers the filters made for the most recently used find predicates, along with the persons they have found,
+ * so that repeating a find on an unchanged address book does not look the persons up again.
+ * Predicates that only differ in the order of the terms they combine share a filter. All filters are forgotten once
+ * the address book has changed.
+ */
+class FindResultCache {
+    static final int DEFAULT_CAPACITY = 32;
+
+    private final Map<Object, Predicate<Person>> filters;
+    private long version = -1;
+
+    /**
+     * Creates a cache that remembers the filters of at most {@code capacity} predicates.
+     */
+    FindResultCache(int capacity) {
+        assert capacity > 0 : "capacity should be positive";
+        filters = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Predicate<Person>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the filter for {@code predicate} on the address book at {@code version}, making it with
+     * {@code filterFor} if it is not remembered. Only predicates that are answered from the search index are
+     * remembered, as other predicates may depend on more than the persons they are tested on.
+     */
+    Predicate<Person> getFilter(Predicate<Person> predicate, long version,
+            Function<Predicate<Person>, Predicate<Person>> filterFor) {
+        requireAllNonNull(predicate, filterFor);
+        if (version != this.version) {
+            filters.clear();
+            this.version = version;
+        }
+        if (!(predicate instanceof IndexedPredicate) || !((IndexedPredicate) predicate).canUseIndex()) {
+            return filterFor.apply(predicate);
+        }
+        return filters.computeIfAbsent(normalize(predicate), unused -> filterFor.apply(predicate));
+    }
+
+    /**
+     * Returns the number of filters remembered.
+     */
+    int size() {
+        return filters.size();
+    }
+
+    /**
+     * Returns a key that is equal for predicates that only differ in the order of the terms they combine.
+     */
+    static Object normalize(Predicate<Person> predicate) {
+        if (predicate instanceof MultiPredicate) {
+            return List.of(MultiPredicate.class, normalizeAll(((MultiPredicate) predicate).getPredicates()));
+        }
+        if (predicate instanceof AnyPredicate) {
+            return List.of(AnyPredicate.class, normalizeAll(((AnyPredicate) predicate).getPredicates()));
+        }
+        if (predicate instanceof NotPredicate) {
+            return List.of(NotPredicate.class, normalize(((NotPredicate) predicate).getPredicate()));
+        }
+        return predicate;
+    }
+
+    private static Set<Object> normalizeAll(List<Predicate<Person>> predicates) {
+        Set<Object> keys = new HashSet<>();
+        for (Predicate<Person> predicate : predicates) {
+            keys.add(normalize(predicate));
+        }
+        return keys;
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.beans.property.ObjectProperty;
@@ -120,6 +121,11 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Returns a description of how the filter of the filtered person list finds the persons it shows.
+     */
+    String explainFilteredPersonList();
+
     /**
      * Returns the selected person in the filtered person list.
      */
@@ -149,6 +155,11 @@ public interface Model {
      */
     void setEvent(Event target, Event editedEvent);
 
+    /**
+     * Returns an unmodifiable view of the events attended by {@code person}.
+     */
+    Set<Event> getEventsAttendedBy(Person person);
+
     /**
      * Deletes the given event.
      * The event must exist in the address book.
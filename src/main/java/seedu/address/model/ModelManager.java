@@ -5,6 +5,7 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -16,17 +17,21 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.QueryPlan;
 
 /**
  * Represents the in-memory model of the address book data.
  */
 public class ModelManager implements Model {
+    public static final String MESSAGE_EXPLAIN_FULL_SCAN = "1. Test %1$s on each person";
+
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Event> filteredEvents;
+    private final FindResultCache findResultCache = new FindResultCache(FindResultCache.DEFAULT_CAPACITY);
     /**
      * Whether to zoom in on the selected event/person (e.g. only show events of selected person).
      */
@@ -160,6 +165,12 @@ public class ModelManager implements Model {
         addressBook.setEvent(target, editedEvent);
     }
 
+    @Override
+    public Set<Event> getEventsAttendedBy(Person person) {
+        requireNonNull(person);
+        return addressBook.getEventsAttendedBy(person);
+    }
+
     @Override
     public void deleteEvent(Event target) {
         addressBook.removeEvent(target);
@@ -207,7 +218,8 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        filteredPersons.setPredicate(findResultCache.getFilter(predicate, addressBook.getVersion(),
+                addressBook.getPersonSearchIndex()::filterFor));
         // Any time we modify the filtered persons list ony, we want to reset our filtered events list to all events,
         // as we might currently only be showing a subset of events (e.g. if we were looking at one student's events).
         filteredEvents.setPredicate(PREDICATE_SHOW_ALL_EVENTS);
@@ -215,6 +227,15 @@ public class ModelManager implements Model {
         updateSelectedPerson();
     }
 
+    @Override
+    public String explainFilteredPersonList() {
+        Predicate<? super Person> predicate = filteredPersons.getPredicate();
+        if (predicate instanceof QueryPlan) {
+            return ((QueryPlan) predicate).explain();
+        }
+        return String.format(MESSAGE_EXPLAIN_FULL_SCAN, predicate);
+    }
+
     //=========== Filtered Person and Event List Accessors ==============================================
 
     @Override
@@ -1,9 +1,13 @@
 package seedu.address.model;
 
+import java.util.List;
+import java.util.Optional;
+
 import javafx.beans.value.ObservableObjectValue;
 import javafx.collections.ObservableList;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.PersonReference;
 import seedu.address.model.person.Person;
 
 /**
@@ -33,6 +37,23 @@ public interface ReadOnlyAddressBook {
      */
     ObservableObjectValue<Event> getSelectedEvent();
 
+    /**
+     * Returns the person referred to by {@code reference}, or an empty {@code Optional} if there is no such person.
+     */
+    Optional<Person> getPerson(PersonReference reference);
+
+    /**
+     * Returns a number that changes whenever the persons or events in the address book are changed.
+     */
+    long getVersion();
+
+    /**
+     * Returns the changes made to the address book since it was at {@code version}, oldest first, or an empty
+     * {@code Optional} if they are no longer known. Applying them to a copy of the address book at {@code version}
+     * brings the copy up to date.
+     */
+    Optional<List<AddressBookChange>> getChangesSince(long version);
+
     /**
      * Checks if the address book is valid.
      * It is valid if all the person references in the event attendances properly reference an existing person
@@ -0,0 +1,68 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable list of the most recent changes made to an address book, which snapshots of the address book share
+ * instead of copying.
+ * Each change recorded links to the changes recorded before it, so recording a change does not copy the changes
+ * already recorded, except once every {@code maxSize} changes, when the changes older than the latest
+ * {@code maxSize} are dropped.
+ */
+final class RecordedChanges {
+    static final RecordedChanges EMPTY = new RecordedChanges(null, null, 0);
+
+    private final AddressBookChange change;
+    private final RecordedChanges previous;
+    private final int size;
+
+    private RecordedChanges(AddressBookChange change, RecordedChanges previous, int size) {
+        this.change = change;
+        this.previous = previous;
+        this.size = size;
+    }
+
+    /**
+     * Returns the number of changes recorded.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns these changes with {@code change} recorded after them, keeping at least the latest {@code maxSize}
+     * changes and at most twice as many.
+     */
+    RecordedChanges record(AddressBookChange change, int maxSize) {
+        requireNonNull(change);
+        RecordedChanges recorded = new RecordedChanges(change, this, size + 1);
+        return recorded.size > 2 * maxSize ? recorded.keepLatest(maxSize) : recorded;
+    }
+
+    /**
+     * Returns the latest {@code count} changes, oldest first.
+     * {@code count} must not be greater than {@link #size()}.
+     */
+    List<AddressBookChange> getLatest(int count) {
+        List<AddressBookChange> latest = new ArrayList<>(count);
+        RecordedChanges recorded = this;
+        for (int i = 0; i < count; i++) {
+            latest.add(recorded.change);
+            recorded = recorded.previous;
+        }
+        Collections.reverse(latest);
+        return latest;
+    }
+
+    private RecordedChanges keepLatest(int count) {
+        RecordedChanges kept = EMPTY;
+        for (AddressBookChange latestChange : getLatest(count)) {
+            kept = new RecordedChanges(latestChange, kept, kept.size + 1);
+        }
+        return kept;
+    }
+}
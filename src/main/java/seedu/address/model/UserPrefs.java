@@ -1,20 +1,28 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
+import java.util.zip.Deflater;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageFormat;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final String MESSAGE_COMPRESSION_LEVEL_CONSTRAINTS =
+            "Compression level should be from 0, for no compression, to 9, for the best compression.";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private StorageFormat addressBookFormat = StorageFormat.JSON;
+    private int addressBookCompressionLevel = Deflater.NO_COMPRESSION;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +44,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookFormat(newUserPrefs.getAddressBookFormat());
+        setAddressBookCompressionLevel(newUserPrefs.getAddressBookCompressionLevel());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +66,35 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public StorageFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(StorageFormat addressBookFormat) {
+        requireNonNull(addressBookFormat);
+        this.addressBookFormat = addressBookFormat;
+    }
+
+    public int getAddressBookCompressionLevel() {
+        return addressBookCompressionLevel;
+    }
+
+    /**
+     * Sets the level that the address book is compressed with when it is saved as JSON.
+     * {@code Deflater.NO_COMPRESSION} saves it as plain JSON.
+     */
+    public void setAddressBookCompressionLevel(int addressBookCompressionLevel) {
+        checkArgument(isValidCompressionLevel(addressBookCompressionLevel), MESSAGE_COMPRESSION_LEVEL_CONSTRAINTS);
+        this.addressBookCompressionLevel = addressBookCompressionLevel;
+    }
+
+    /**
+     * Returns true if {@code level} is a valid compression level.
+     */
+    public static boolean isValidCompressionLevel(int level) {
+        return level >= Deflater.NO_COMPRESSION && level <= Deflater.BEST_COMPRESSION;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +108,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && addressBookFormat == otherUserPrefs.addressBookFormat
+                && addressBookCompressionLevel == otherUserPrefs.addressBookCompressionLevel;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookFormat, addressBookCompressionLevel);
     }
 
     @Override
@@ -82,6 +123,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + addressBookFormat);
+        sb.append("\nLocal data file compression level : " + addressBookCompressionLevel);
         return sb.toString();
     }
 
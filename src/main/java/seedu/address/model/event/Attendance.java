@@ -3,8 +3,11 @@ package seedu.address.model.event;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.event.exceptions.DuplicateAttendeeException;
@@ -12,11 +15,13 @@ import seedu.address.model.event.exceptions.PersonReferenceNotFoundException;
 
 /**
  * Represents attendance of a set of {@code PersonReference} in the address book for an event.
+ * Persons are kept in the order they were added to the attendance.
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class Attendance {
     public static final String MESSAGE_CONSTRAINTS = "The indexes ";
-    private final List<PersonReference> persons = new ArrayList<>();
+    private final Set<PersonReference> persons = new LinkedHashSet<>();
+    private List<PersonReference> cachedList;
 
     public Attendance() {}
 
@@ -34,14 +39,15 @@ public class Attendance {
      * @throws DuplicateAttendeeException if the person is already in the set.
      */
     public void add(PersonReference p) {
-        if (persons.contains(p)) {
+        if (!persons.add(p)) {
             throw new DuplicateAttendeeException();
         }
-        persons.add(p);
+        cachedList = null;
     }
 
     public void addAll(Collection<PersonReference> p) {
         persons.addAll(p);
+        cachedList = null;
     }
 
     public boolean hasPerson(PersonReference p) {
@@ -53,21 +59,36 @@ public class Attendance {
      * @throws PersonReferenceNotFoundException if the person does not exist in the set.
      */
     public void remove(PersonReference p) {
-        if (!persons.contains(p)) {
+        if (!persons.remove(p)) {
             throw new PersonReferenceNotFoundException();
         }
-        this.persons.remove(p);
+        cachedList = null;
     }
 
     /**
      * Removes a person from the current attendance set at the given index.
+     * @throws IndexOutOfBoundsException if the index is out of range.
      */
     public void remove(int index) {
-        persons.remove(index);
+        Objects.checkIndex(index, persons.size());
+        Iterator<PersonReference> iterator = persons.iterator();
+        for (int i = 0; i < index; i++) {
+            iterator.next();
+        }
+        iterator.next();
+        iterator.remove();
+        cachedList = null;
     }
 
+    /**
+     * Removes all the given persons from the current attendance set.
+     * Persons that are not in the set are ignored.
+     */
     public void removeAll(Collection<PersonReference> personsToRemove) {
-        persons.removeAll(personsToRemove);
+        for (PersonReference p : personsToRemove) {
+            persons.remove(p);
+        }
+        cachedList = null;
     }
 
     /**
@@ -75,15 +96,32 @@ public class Attendance {
      */
     public void clear() {
         persons.clear();
+        cachedList = null;
     }
 
     public boolean contains(PersonReference p) {
         return persons.contains(p);
     }
 
+    /**
+     * Returns the attendance as an unmodifiable list, in the order the persons were added.
+     * The list is copied once and reused until the attendance next changes, and does not follow later changes.
+     * Prefer {@link #asUnmodifiableSet()} when indexed access is not needed.
+     */
     public List<PersonReference> asUnmodifiableList() {
-        return Collections.unmodifiableList(persons);
+        if (cachedList == null) {
+            cachedList = Collections.unmodifiableList(new ArrayList<>(persons));
+        }
+        return cachedList;
+    }
+
+    /**
+     * Returns an unmodifiable view of the attendance, in the order the persons were added.
+     */
+    public Set<PersonReference> asUnmodifiableSet() {
+        return Collections.unmodifiableSet(persons);
     }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -95,14 +133,28 @@ public class Attendance {
             return false;
         }
 
+        // Attendances with the same persons added in a different order are not equal, as they are listed differently.
         Attendance otherAttendance = (Attendance) other;
-        return this.persons.equals(otherAttendance.persons);
+        if (persons.size() != otherAttendance.persons.size()) {
+            return false;
+        }
+        Iterator<PersonReference> otherPersons = otherAttendance.persons.iterator();
+        for (PersonReference p : persons) {
+            if (!p.equals(otherPersons.next())) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(persons);
+        // Hashed in order, as a list of the persons would be, to agree with equals.
+        int hashCode = 1;
+        for (PersonReference p : persons) {
+            hashCode = 31 * hashCode + p.hashCode();
+        }
+        return hashCode;
     }
 
     @Override
@@ -1,62 +1,41 @@
 package seedu.address.model.event;
 
-import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
-
-import java.util.Objects;
+import static java.util.Objects.requireNonNull;
 
 import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.Phone;
 
 /**
- * Represents a reference to a {@code Person} in the model, where a person is guaranteed to be unique
- * as defined by {@code Person#isSamePerson}.
- * Guarantees: details are present and not null, field values are validated.
+ * Represents a reference to a {@code Person} in the model by the person's id.
+ * As the id of a person stays the same when the person is edited, a reference never needs to be updated.
+ * Guarantees: immutable.
  *
- * @see Person#isSamePerson
+ * @see Person#getId()
  */
 public class PersonReference {
-    // Identity fields
-    private Name name;
-    private Phone phone;
+    private final int id;
 
     /**
-     * Every field must be present and not null.
+     * Constructs a reference to the person with the given {@code id}.
      */
-    public PersonReference(Name name, Phone phone) {
-        requireAllNonNull(name, phone);
-        this.name = name;
-        this.phone = phone;
+    public PersonReference(int id) {
+        this.id = id;
     }
 
     /**
-     * Constructs a reference to the given person. Every field must be present and not null.
+     * Constructs a reference to the given person.
      */
     public PersonReference(Person p) {
-        requireAllNonNull(p);
-        this.name = p.getName();
-        this.phone = p.getPhone();
-    }
-
-    public Phone getPhone() {
-        return phone;
-    }
-
-    public Name getName() {
-        return name;
-    }
-
-    public void setName(Name name) {
-        this.name = name;
+        requireNonNull(p);
+        this.id = p.getId();
     }
 
-    public void setPhone(Phone phone) {
-        this.phone = phone;
+    public int getId() {
+        return id;
     }
 
     /**
-     * Returns true if both person references have the same identity fields.
+     * Returns true if both person references refer to the same person.
      */
     @Override
     public boolean equals(Object other) {
@@ -70,21 +49,18 @@ public class PersonReference {
         }
 
         PersonReference otherPerson = (PersonReference) other;
-        return name.equals(otherPerson.name)
-                && phone.equals(otherPerson.phone);
+        return id == otherPerson.id;
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone);
+        return Integer.hashCode(id);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("name", name)
-                .add("phone", phone)
+                .add("id", id)
                 .toString();
     }
 }
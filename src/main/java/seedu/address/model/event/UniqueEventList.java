@@ -1,11 +1,15 @@
 package seedu.address.model.event;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
@@ -23,6 +27,9 @@ import seedu.address.model.event.exceptions.EventNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * The identities of all events in the list are additionally kept in a hash index, so that identity checks do not
+ * need to scan the whole list.
+ *
  * @see Event#isSameEvent(Event)
  */
 public class UniqueEventList implements Iterable<Event> {
@@ -30,13 +37,14 @@ public class UniqueEventList implements Iterable<Event> {
     private final ObservableList<Event> internalList = FXCollections.observableArrayList();
     private final ObservableList<Event> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Set<Identity> identities = new HashSet<>();
 
     /**
      * Returns true if the list contains an equivalent event as the given argument.
      */
     public boolean contains(Event toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEvent);
+        return identities.contains(new Identity(toCheck));
     }
 
     /**
@@ -56,6 +64,7 @@ public class UniqueEventList implements Iterable<Event> {
             throw new DuplicateEventException();
         }
         internalList.add(toAdd);
+        identities.add(new Identity(toAdd));
         selectedEvent.set(toAdd);
     }
 
@@ -76,9 +85,30 @@ public class UniqueEventList implements Iterable<Event> {
             throw new DuplicateEventException();
         }
         internalList.set(index, editedEvent);
+        identities.remove(new Identity(target));
+        identities.add(new Identity(editedEvent));
         selectedEvent.set(editedEvent);
     }
 
+    /**
+     * Replaces the event {@code target} in the list with {@code updatedEvent}, which must be the same event.
+     * Unlike {@link #setEvent}, the selected event is left as it is, unless it was {@code target}, in which case
+     * {@code updatedEvent} is selected instead.
+     */
+    public void replace(Event target, Event updatedEvent) {
+        requireAllNonNull(target, updatedEvent);
+        checkArgument(target.isSameEvent(updatedEvent), "The updated event must be the same event as the target.");
+
+        int index = internalList.indexOf(target);
+        if (index == -1) {
+            throw new EventNotFoundException();
+        }
+        internalList.set(index, updatedEvent);
+        if (selectedEvent.get() == target) {
+            selectedEvent.set(updatedEvent);
+        }
+    }
+
     /**
      * Removes the equivalent event from the list.
      * The event must exist in the list.
@@ -101,6 +131,7 @@ public class UniqueEventList implements Iterable<Event> {
         if (!internalList.remove(toRemove)) {
             throw new EventNotFoundException();
         }
+        identities.remove(new Identity(toRemove));
     }
 
     /**
@@ -109,6 +140,7 @@ public class UniqueEventList implements Iterable<Event> {
     public void clear() {
         selectedEvent.set(null);
         internalList.clear();
+        identities.clear();
     }
 
     /**
@@ -121,6 +153,8 @@ public class UniqueEventList implements Iterable<Event> {
     public void setEvents(UniqueEventList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        identities.clear();
+        identities.addAll(replacement.identities);
         selectedEvent.set(null);
     }
 
@@ -130,11 +164,16 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public void setEvents(List<Event> events) {
         requireAllNonNull(events);
-        if (!eventsAreUnique(events)) {
-            throw new DuplicateEventException();
+        Set<Identity> replacementIdentities = new HashSet<>();
+        for (Event event : events) {
+            if (!replacementIdentities.add(new Identity(event))) {
+                throw new DuplicateEventException();
+            }
         }
 
         internalList.setAll(events);
+        identities.clear();
+        identities.addAll(replacementIdentities);
         selectedEvent.set(null);
     }
 
@@ -182,16 +221,36 @@ public class UniqueEventList implements Iterable<Event> {
     }
 
     /**
-     * Returns true if {@code events} contains only unique events.
+     * Identity fields of an event as defined by {@code Event#isSameEvent(Event)}, used as the key of the index.
      */
-    private boolean eventsAreUnique(List<Event> events) {
-        for (int i = 0; i < events.size() - 1; i++) {
-            for (int j = i + 1; j < events.size(); j++) {
-                if (events.get(i).isSameEvent(events.get(j))) {
-                    return false;
-                }
+    private static class Identity {
+        private final EventName name;
+        private final Duration duration;
+
+        Identity(Event event) {
+            this.name = event.getName();
+            this.duration = event.getDuration();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
             }
+
+            // instanceof handles nulls
+            if (!(other instanceof Identity)) {
+                return false;
+            }
+
+            Identity otherIdentity = (Identity) other;
+            return name.equals(otherIdentity.name)
+                    && duration.equals(otherIdentity.duration);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, duration);
         }
-        return true;
     }
 }
@@ -0,0 +1,128 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person} satisfies at least one of a list of predicates.
+ * An {@code AnyPredicate} without any predicates is satisfied by no person.
+ */
+public class AnyPredicate implements IndexedPredicate {
+    private final List<Predicate<Person>> predicates;
+
+    public AnyPredicate(List<Predicate<Person>> predicates) {
+        this.predicates = predicates;
+    }
+
+    /**
+     * Returns a predicate that is satisfied by the persons who satisfy any of {@code predicates}.
+     * Nested {@code AnyPredicate}s are flattened and repeated predicates are kept once. If a predicate is always
+     * satisfied, or is given together with its negation, the result is a {@code MultiPredicate} without any
+     * predicates. A single remaining predicate is returned as it is.
+     */
+    public static Predicate<Person> of(List<Predicate<Person>> predicates) {
+        requireNonNull(predicates);
+        List<Predicate<Person>> terms = new ArrayList<>();
+        for (Predicate<Person> predicate : predicates) {
+            if (predicate instanceof AnyPredicate) {
+                for (Predicate<Person> nestedPredicate : ((AnyPredicate) predicate).predicates) {
+                    MultiPredicate.addIfAbsent(terms, nestedPredicate);
+                }
+            } else {
+                MultiPredicate.addIfAbsent(terms, predicate);
+            }
+        }
+
+        for (Predicate<Person> term : terms) {
+            if (MultiPredicate.isAlwaysSatisfied(term) || terms.contains(NotPredicate.of(term))) {
+                return new MultiPredicate(List.of());
+            }
+        }
+        return terms.size() == 1 ? terms.get(0) : new AnyPredicate(terms);
+    }
+
+    /**
+     * Returns true if {@code predicate} is satisfied by no person, i.e. it is an {@code AnyPredicate} without any
+     * predicates.
+     */
+    static boolean isNeverSatisfied(Predicate<Person> predicate) {
+        return predicate instanceof AnyPredicate && ((AnyPredicate) predicate).predicates.isEmpty();
+    }
+
+    /**
+     * Returns an unmodifiable view of the predicates that a person must satisfy at least one of.
+     */
+    public List<Predicate<Person>> getPredicates() {
+        return Collections.unmodifiableList(predicates);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (Predicate<Person> predicate : predicates) {
+            if (predicate.test(person)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public BitSet getMatchingIds(PersonSearchIndex index) {
+        BitSet ids = new BitSet();
+        for (Predicate<Person> predicate : predicates) {
+            ids.or(((IndexedPredicate) predicate).getMatchingIds(index));
+        }
+        return ids;
+    }
+
+    @Override
+    public int estimateMatches(PersonSearchIndex index) {
+        int estimate = 0;
+        for (Predicate<Person> predicate : predicates) {
+            estimate += ((IndexedPredicate) predicate).estimateMatches(index);
+        }
+        return Math.min(estimate, index.size());
+    }
+
+    @Override
+    public boolean canUseIndex() {
+        for (Predicate<Person> predicate : predicates) {
+            if (!PersonSearchIndex.canUseIndex(predicate)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AnyPredicate)) {
+            return false;
+        }
+
+        AnyPredicate otherAnyPredicate = (AnyPredicate) other;
+        return predicates.equals(otherAnyPredicate.predicates);
+    }
+
+    @Override
+    public int hashCode() {
+        return predicates.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("predicates", predicates).toString();
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Sorted index from each {@code EnrollmentYear} to the ids of the persons enrolled in that year, stored as a bitmap,
+ * with a separate bitmap for persons without an enrollment year.
+ * Range queries only visit the years in the range, found in O(log years). The ids of each year visited are then
+ * combined as whole bitmaps, in time proportional to the largest id of that year rather than to the number of persons
+ * enrolled in it, since the find predicates combine their results as bitmaps.
+ *
+ * @see Person#getId()
+ */
+public class EnrollmentYearIndex {
+    private final NavigableMap<Integer, BitSet> idsByYear = new TreeMap<>();
+    private final BitSet idsWithoutYear = new BitSet();
+
+    /**
+     * Adds the enrollment year of {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        EnrollmentYear enrollmentYear = person.getEnrollmentYear();
+        if (!enrollmentYear.isPresent()) {
+            idsWithoutYear.set(person.getId());
+            return;
+        }
+        idsByYear.computeIfAbsent(enrollmentYear.getValue(), unused -> new BitSet()).set(person.getId());
+    }
+
+    /**
+     * Removes the enrollment year of {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        EnrollmentYear enrollmentYear = person.getEnrollmentYear();
+        if (!enrollmentYear.isPresent()) {
+            idsWithoutYear.clear(person.getId());
+            return;
+        }
+        BitSet ids = idsByYear.get(enrollmentYear.getValue());
+        if (ids == null) {
+            return;
+        }
+        ids.clear(person.getId());
+        if (ids.isEmpty()) {
+            idsByYear.remove(enrollmentYear.getValue());
+        }
+    }
+
+    /**
+     * Removes all enrollment years from the index.
+     */
+    public void clear() {
+        idsByYear.clear();
+        idsWithoutYear.clear();
+    }
+
+    /**
+     * Returns the ids of the persons without an enrollment year.
+     */
+    public BitSet getIdsWithoutYear() {
+        return (BitSet) idsWithoutYear.clone();
+    }
+
+    /**
+     * Returns the number of persons without an enrollment year.
+     */
+    public int countIdsWithoutYear() {
+        return idsWithoutYear.cardinality();
+    }
+
+    /**
+     * Returns the number of persons enrolled in a year from {@code fromYear} to {@code toYear}.
+     * {@code fromYear} must not be greater than {@code toYear}.
+     */
+    public int countIdsBetween(int fromYear, boolean fromInclusive, int toYear, boolean toInclusive) {
+        int count = 0;
+        for (BitSet ids : idsByYear.subMap(fromYear, fromInclusive, toYear, toInclusive).values()) {
+            count += ids.cardinality();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the ids of the persons enrolled in a year from {@code fromYear} to {@code toYear}.
+     * {@code fromYear} must not be greater than {@code toYear}.
+     * Takes O(years in range * largest id / 64), as the bitmap of each year in the range is OR-ed into the result.
+     */
+    public BitSet getIdsBetween(int fromYear, boolean fromInclusive, int toYear, boolean toInclusive) {
+        BitSet ids = new BitSet();
+        idsByYear.subMap(fromYear, fromInclusive, toYear, toInclusive).values().forEach(ids::or);
+        return ids;
+    }
+}
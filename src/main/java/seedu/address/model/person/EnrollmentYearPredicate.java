@@ -1,6 +1,7 @@
 package seedu.address.model.person;
 
-import java.util.function.Predicate;
+import java.util.BitSet;
+import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -10,7 +11,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 /**
  * Tests that a {@code Person}'s {@code EnrollmentYear} satisfies a numerical constraint.
  */
-public class EnrollmentYearPredicate implements Predicate<Person> {
+public class EnrollmentYearPredicate implements IndexedPredicate {
 
     public static final String MESSAGE_CONSTRAINTS = "Enrollment year filter string should be either a blank "
         + "string to indicate having no enrollment year, or an integer preceded by a constraint of the following: "
@@ -91,6 +92,48 @@ public class EnrollmentYearPredicate implements Predicate<Person> {
         }
     }
 
+    @Override
+    public BitSet getMatchingIds(PersonSearchIndex index) {
+        EnrollmentYearIndex enrollmentYearIndex = index.getEnrollmentYearIndex();
+        switch (constraint) {
+        case GREATER_THAN:
+            return enrollmentYearIndex.getIdsBetween(value, false, Integer.MAX_VALUE, true);
+        case GREATER_THAN_OR_EQUAL:
+            return enrollmentYearIndex.getIdsBetween(value, true, Integer.MAX_VALUE, true);
+        case LESS_THAN:
+            return enrollmentYearIndex.getIdsBetween(Integer.MIN_VALUE, true, value, false);
+        case LESS_THAN_OR_EQUAL:
+            return enrollmentYearIndex.getIdsBetween(Integer.MIN_VALUE, true, value, true);
+        case EQUAL:
+            return enrollmentYearIndex.getIdsBetween(value, true, value, true);
+        case NONE:
+            return enrollmentYearIndex.getIdsWithoutYear();
+        default:
+            return new BitSet();
+        }
+    }
+
+    @Override
+    public int estimateMatches(PersonSearchIndex index) {
+        EnrollmentYearIndex enrollmentYearIndex = index.getEnrollmentYearIndex();
+        switch (constraint) {
+        case GREATER_THAN:
+            return enrollmentYearIndex.countIdsBetween(value, false, Integer.MAX_VALUE, true);
+        case GREATER_THAN_OR_EQUAL:
+            return enrollmentYearIndex.countIdsBetween(value, true, Integer.MAX_VALUE, true);
+        case LESS_THAN:
+            return enrollmentYearIndex.countIdsBetween(Integer.MIN_VALUE, true, value, false);
+        case LESS_THAN_OR_EQUAL:
+            return enrollmentYearIndex.countIdsBetween(Integer.MIN_VALUE, true, value, true);
+        case EQUAL:
+            return enrollmentYearIndex.countIdsBetween(value, true, value, true);
+        case NONE:
+            return enrollmentYearIndex.countIdsWithoutYear();
+        default:
+            return 0;
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -107,6 +150,11 @@ public class EnrollmentYearPredicate implements Predicate<Person> {
             && value == otherEnrollmentYearPredicate.value;
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(constraint, value);
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("constraint", constraint).add("value", value).toString();
@@ -0,0 +1,30 @@
+package seedu.address.model.person;
+
+import java.util.BitSet;
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate<Person>} that can look up the persons satisfying it in a {@code PersonSearchIndex},
+ * instead of being tested against every person.
+ */
+public interface IndexedPredicate extends Predicate<Person> {
+
+    /**
+     * Returns the ids of the persons in {@code index} that satisfy this predicate.
+     */
+    BitSet getMatchingIds(PersonSearchIndex index);
+
+    /**
+     * Returns an estimate of the number of persons in {@code index} that satisfy this predicate, computed from the
+     * statistics of the index without finding the persons themselves.
+     */
+    int estimateMatches(PersonSearchIndex index);
+
+    /**
+     * Returns true if the persons satisfying this predicate can be looked up with {@link #getMatchingIds}.
+     * A predicate combining other predicates can only be looked up if all of them can.
+     */
+    default boolean canUseIndex() {
+        return true;
+    }
+}
@@ -1,5 +1,11 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -7,17 +13,111 @@ import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Person} satisfies a list of predicates.
+ * A {@code MultiPredicate} without any predicates is satisfied by every person.
  */
-public class MultiPredicate implements Predicate<Person> {
+public class MultiPredicate implements IndexedPredicate {
     private final List<Predicate<Person>> predicates;
 
     public MultiPredicate(List<Predicate<Person>> predicates) {
         this.predicates = predicates;
     }
 
+    /**
+     * Returns a predicate that is satisfied by the persons who satisfy all of {@code predicates}.
+     * Nested {@code MultiPredicate}s are flattened and repeated predicates are kept once. If a predicate can never be
+     * satisfied, or is required together with its negation, the result is an {@code AnyPredicate} without any
+     * predicates. A single remaining predicate is returned as it is.
+     */
+    public static Predicate<Person> of(List<Predicate<Person>> predicates) {
+        requireNonNull(predicates);
+        List<Predicate<Person>> terms = new ArrayList<>();
+        for (Predicate<Person> predicate : predicates) {
+            if (predicate instanceof MultiPredicate) {
+                for (Predicate<Person> nestedPredicate : ((MultiPredicate) predicate).predicates) {
+                    addIfAbsent(terms, nestedPredicate);
+                }
+            } else {
+                addIfAbsent(terms, predicate);
+            }
+        }
+
+        for (Predicate<Person> term : terms) {
+            if (AnyPredicate.isNeverSatisfied(term) || terms.contains(NotPredicate.of(term))) {
+                return new AnyPredicate(List.of());
+            }
+        }
+        return terms.size() == 1 ? terms.get(0) : new MultiPredicate(terms);
+    }
+
+    /**
+     * Adds {@code predicate} to {@code terms} if an equal predicate is not already in it.
+     */
+    static void addIfAbsent(List<Predicate<Person>> terms, Predicate<Person> predicate) {
+        if (!terms.contains(predicate)) {
+            terms.add(predicate);
+        }
+    }
+
+    /**
+     * Returns true if {@code predicate} is satisfied by every person, i.e. it is a {@code MultiPredicate} without any
+     * predicates.
+     */
+    static boolean isAlwaysSatisfied(Predicate<Person> predicate) {
+        return predicate instanceof MultiPredicate && ((MultiPredicate) predicate).predicates.isEmpty();
+    }
+
+    /**
+     * Returns an unmodifiable view of the predicates that a person must satisfy.
+     */
+    public List<Predicate<Person>> getPredicates() {
+        return Collections.unmodifiableList(predicates);
+    }
+
     @Override
     public boolean test(Person person) {
-        return predicates.stream().allMatch(predicate -> predicate.test(person));
+        for (Predicate<Person> predicate : predicates) {
+            if (!predicate.test(person)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public BitSet getMatchingIds(PersonSearchIndex index) {
+        List<IndexedPredicate> terms = new ArrayList<>();
+        for (Predicate<Person> predicate : predicates) {
+            terms.add((IndexedPredicate) predicate);
+        }
+        terms.sort(Comparator.comparingInt(term -> term.estimateMatches(index)));
+
+        BitSet ids = index.getAllIds();
+        for (IndexedPredicate term : terms) {
+            if (ids.isEmpty()) {
+                break;
+            }
+            ids.and(term.getMatchingIds(index));
+        }
+        return ids;
+    }
+
+    @Override
+    public int estimateMatches(PersonSearchIndex index) {
+        int estimate = index.size();
+        for (Predicate<Person> predicate : predicates) {
+            estimate = Math.min(estimate, ((IndexedPredicate) predicate).estimateMatches(index));
+        }
+        return estimate;
+    }
+
+    @Override
+    public boolean canUseIndex() {
+        for (Predicate<Person> predicate : predicates) {
+            if (!PersonSearchIndex.canUseIndex(predicate)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -35,6 +135,11 @@ public class MultiPredicate implements Predicate<Person> {
         return predicates.equals(otherMultiPredicate.predicates);
     }
 
+    @Override
+    public int hashCode() {
+        return predicates.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("predicates", predicates).toString();
@@ -1,7 +1,7 @@
 package seedu.address.model.person;
 
+import java.util.BitSet;
 import java.util.List;
-import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
@@ -9,7 +9,7 @@ import seedu.address.commons.util.ToStringBuilder;
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements IndexedPredicate {
     private final List<String> keywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
@@ -22,6 +22,20 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
     }
 
+    @Override
+    public BitSet getMatchingIds(PersonSearchIndex index) {
+        BitSet ids = new BitSet();
+        for (String keyword : keywords) {
+            ids.or(index.getNameTokenIndex().getIds(keyword));
+        }
+        return ids;
+    }
+
+    @Override
+    public int estimateMatches(PersonSearchIndex index) {
+        return keywords.stream().mapToInt(keyword -> index.getNameTokenIndex().countIds(keyword)).sum();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -37,6 +51,11 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
@@ -0,0 +1,88 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Inverted index from each lower-cased word of a {@code Name} to the ids of the persons whose name has that word,
+ * stored as a bitmap.
+ *
+ * @see Person#getId()
+ */
+public class NameTokenIndex {
+    private final Map<String, BitSet> idsByToken = new HashMap<>();
+
+    /**
+     * Adds the name of {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String token : tokensOf(person.getName())) {
+            idsByToken.computeIfAbsent(token, unused -> new BitSet()).set(person.getId());
+        }
+    }
+
+    /**
+     * Removes the name of {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String token : tokensOf(person.getName())) {
+            BitSet ids = idsByToken.get(token);
+            if (ids == null) {
+                continue;
+            }
+            ids.clear(person.getId());
+            if (ids.isEmpty()) {
+                idsByToken.remove(token);
+            }
+        }
+    }
+
+    /**
+     * Removes all names from the index.
+     */
+    public void clear() {
+        idsByToken.clear();
+    }
+
+    /**
+     * Returns the ids of the persons whose name contains {@code word}, ignoring case, as defined by
+     * {@link StringUtil#containsWordIgnoreCase(String, String)}.
+     *
+     * @param word cannot be empty, must be a single word
+     */
+    public BitSet getIds(String word) {
+        requireNonNull(word);
+        String preppedWord = word.trim();
+        checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
+        checkArgument(preppedWord.split("\\s+").length == 1,
+                "Word parameter should be a single word");
+
+        BitSet ids = idsByToken.get(preppedWord.toLowerCase(Locale.ROOT));
+        return ids == null ? new BitSet() : (BitSet) ids.clone();
+    }
+
+    /**
+     * Returns the number of persons whose name contains {@code word}, ignoring case.
+     */
+    public int countIds(String word) {
+        requireNonNull(word);
+        BitSet ids = idsByToken.get(word.trim().toLowerCase(Locale.ROOT));
+        return ids == null ? 0 : ids.cardinality();
+    }
+
+    private static Set<String> tokensOf(Name name) {
+        return new HashSet<>(Arrays.asList(name.fullName.toLowerCase(Locale.ROOT).split("\\s+")));
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person} does not satisfy a predicate.
+ */
+public class NotPredicate implements IndexedPredicate {
+    private final Predicate<Person> predicate;
+
+    public NotPredicate(Predicate<Person> predicate) {
+        this.predicate = predicate;
+    }
+
+    /**
+     * Returns a predicate that is satisfied by the persons who do not satisfy {@code predicate}.
+     * A double negation is removed, and the negation of a predicate that is always or never satisfied is replaced by
+     * a predicate that is never or always satisfied.
+     */
+    public static Predicate<Person> of(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        if (predicate instanceof NotPredicate) {
+            return ((NotPredicate) predicate).predicate;
+        }
+        if (MultiPredicate.isAlwaysSatisfied(predicate)) {
+            return new AnyPredicate(List.of());
+        }
+        if (AnyPredicate.isNeverSatisfied(predicate)) {
+            return new MultiPredicate(List.of());
+        }
+        return new NotPredicate(predicate);
+    }
+
+    /**
+     * Returns the predicate that a person must not satisfy.
+     */
+    public Predicate<Person> getPredicate() {
+        return predicate;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return !predicate.test(person);
+    }
+
+    @Override
+    public BitSet getMatchingIds(PersonSearchIndex index) {
+        BitSet ids = index.getAllIds();
+        ids.andNot(((IndexedPredicate) predicate).getMatchingIds(index));
+        return ids;
+    }
+
+    @Override
+    public int estimateMatches(PersonSearchIndex index) {
+        return Math.max(0, index.size() - ((IndexedPredicate) predicate).estimateMatches(index));
+    }
+
+    @Override
+    public boolean canUseIndex() {
+        return PersonSearchIndex.canUseIndex(predicate);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NotPredicate)) {
+            return false;
+        }
+
+        NotPredicate otherNotPredicate = (NotPredicate) other;
+        return predicate.equals(otherNotPredicate.predicate);
+    }
+
+    @Override
+    public int hashCode() {
+        return predicate.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("predicate", predicate).toString();
+    }
+}
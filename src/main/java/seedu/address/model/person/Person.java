@@ -7,6 +7,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.MessageCenter;
@@ -16,6 +17,8 @@ import seedu.address.model.tag.Tag;
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * Every person also carries a numeric id that stays the same across edits, which {@code PersonReference} uses to
+ * refer to the person. The id is not part of the equality of persons.
  */
 public class Person {
 
@@ -26,6 +29,13 @@ public class Person {
     public static final String EMERGENCY_NAME_WARNING =
             "Note: Emergency contact of %1$s has the same name as them, please check that this is not a mistake.";
 
+    /** The largest id a person can have, which keeps the id-indexed bitmaps of the address book small. */
+    public static final int MAX_ID = 9_999_999;
+
+    private static final AtomicInteger nextId = new AtomicInteger(1);
+
+    private final int id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -40,12 +50,25 @@ public class Person {
     private final Pin pin;
 
     /**
-     * Every field must be present and not null.
+     * Constructs a person with a newly allocated id. Every field must be present and not null.
      */
     public Person(Name name, Phone phone, Email email, Address address, Pin pin, Set<Role> roles, Set<Tag> tags,
                   EmergencyContact emergencyContact, EnrollmentYear enrollmentYear) {
+        this(nextId.getAndIncrement(), name, phone, email, address, pin, roles, tags, emergencyContact,
+                enrollmentYear);
+    }
+
+    /**
+     * Constructs a person with the given {@code id}, such as an edited version of an existing person.
+     * Every field must be present and not null.
+     */
+    public Person(int id, Name name, Phone phone, Email email, Address address, Pin pin, Set<Role> roles,
+                  Set<Tag> tags, EmergencyContact emergencyContact, EnrollmentYear enrollmentYear) {
         requireAllNonNull(name, phone, email, address, pin, tags, emergencyContact);
+        checkArgument(isValidId(id), "Person id should be between 0 and " + MAX_ID + ".");
         checkValidPerson(name, phone, emergencyContact);
+        reserveId(id);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -74,6 +97,24 @@ public class Person {
         }
     }
 
+    /**
+     * Returns true if {@code id} can be the id of a person.
+     */
+    public static boolean isValidId(int id) {
+        return id >= 0 && id <= MAX_ID;
+    }
+
+    /**
+     * Ensures that ids allocated to new persons from now on are greater than {@code id}, which must be valid.
+     */
+    public static void reserveId(int id) {
+        nextId.accumulateAndGet(id + 1, Math::max);
+    }
+
+    public int getId() {
+        return id;
+    }
+
     public Name getName() {
         return name;
     }
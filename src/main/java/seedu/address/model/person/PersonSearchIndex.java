@@ -0,0 +1,120 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.role.RoleIndex;
+import seedu.address.model.tag.TagIndex;
+
+/**
+ * Indexes over the persons in a {@code UniquePersonList}, which {@code IndexedPredicate}s are answered from.
+ * The list updates the indexes before its own contents, so that filters over the list already see the change.
+ */
+public class PersonSearchIndex {
+    private final NameTokenIndex nameTokenIndex = new NameTokenIndex();
+    private final TagIndex tagIndex = new TagIndex();
+    private final EnrollmentYearIndex enrollmentYearIndex = new EnrollmentYearIndex();
+    private final RoleIndex roleIndex = new RoleIndex();
+    private final BitSet ids = new BitSet();
+    private long version = 0;
+
+    void add(Person person) {
+        nameTokenIndex.add(person);
+        tagIndex.add(person);
+        roleIndex.add(person);
+        enrollmentYearIndex.add(person);
+        ids.set(person.getId());
+        version++;
+    }
+
+    void remove(Person person) {
+        nameTokenIndex.remove(person);
+        tagIndex.remove(person);
+        roleIndex.remove(person);
+        enrollmentYearIndex.remove(person);
+        ids.clear(person.getId());
+        version++;
+    }
+
+    void clear() {
+        nameTokenIndex.clear();
+        tagIndex.clear();
+        roleIndex.clear();
+        enrollmentYearIndex.clear();
+        ids.clear();
+        version++;
+    }
+
+    public NameTokenIndex getNameTokenIndex() {
+        return nameTokenIndex;
+    }
+
+    public TagIndex getTagIndex() {
+        return tagIndex;
+    }
+
+    public RoleIndex getRoleIndex() {
+        return roleIndex;
+    }
+
+    public EnrollmentYearIndex getEnrollmentYearIndex() {
+        return enrollmentYearIndex;
+    }
+
+    /**
+     * Returns the ids of all indexed persons.
+     */
+    public BitSet getAllIds() {
+        return (BitSet) ids.clone();
+    }
+
+    /**
+     * Returns the number of indexed persons.
+     */
+    public int size() {
+        return ids.cardinality();
+    }
+
+    /**
+     * Returns a number that changes whenever the indexed persons change.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns a predicate that accepts the same persons as {@code predicate}, but answers its indexed terms from
+     * this index through a {@code QueryPlan}. Terms of a {@code MultiPredicate} that cannot be indexed are still
+     * tested person by person, and only for persons that satisfy the indexed terms.
+     */
+    public Predicate<Person> filterFor(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        if (!(predicate instanceof MultiPredicate)) {
+            return canUseIndex(predicate)
+                    ? new QueryPlan(this, List.of((IndexedPredicate) predicate), List.of())
+                    : predicate;
+        }
+
+        List<IndexedPredicate> indexedTerms = new ArrayList<>();
+        List<Predicate<Person>> otherTerms = new ArrayList<>();
+        for (Predicate<Person> term : ((MultiPredicate) predicate).getPredicates()) {
+            if (canUseIndex(term)) {
+                indexedTerms.add((IndexedPredicate) term);
+            } else {
+                otherTerms.add(term);
+            }
+        }
+        return indexedTerms.isEmpty() ? predicate : new QueryPlan(this, indexedTerms, otherTerms);
+    }
+
+    /**
+     * Returns true if the persons satisfying {@code predicate} can be looked up in a {@code PersonSearchIndex}.
+     */
+    static boolean canUseIndex(Predicate<Person> predicate) {
+        return predicate instanceof IndexedPredicate && ((IndexedPredicate) predicate).canUseIndex();
+    }
+}
@@ -0,0 +1,113 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Plan for finding the persons that satisfy a predicate with a {@code PersonSearchIndex}.
+ * The indexed terms are looked up from the fewest to the most estimated matches, intersecting the matches as it goes
+ * and skipping the remaining lookups once no person is left. The other terms are then only tested against the persons
+ * that remain. The plan is made again whenever the index has changed since it was last made.
+ */
+public class QueryPlan implements Predicate<Person> {
+
+    public static final String MESSAGE_EXPLAIN_LOOKUP = "%1$d. Index lookup %2$s: estimated %3$d, actual %4$d";
+    public static final String MESSAGE_EXPLAIN_SKIPPED =
+            "%1$d. Index lookup %2$s: estimated %3$d, skipped as no person is left";
+    public static final String MESSAGE_EXPLAIN_TEST = "%1$d. Test %2$s on each remaining person";
+
+    private final PersonSearchIndex index;
+    private final List<IndexedPredicate> indexedTerms;
+    private final List<Predicate<Person>> otherTerms;
+
+    private List<Step> steps;
+    private BitSet matchingIds;
+    private long planVersion;
+
+    QueryPlan(PersonSearchIndex index, List<IndexedPredicate> indexedTerms, List<Predicate<Person>> otherTerms) {
+        assert !indexedTerms.isEmpty() : "a plan should have at least one indexed term";
+        this.index = index;
+        this.indexedTerms = indexedTerms;
+        this.otherTerms = otherTerms;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        plan();
+        if (!matchingIds.get(person.getId())) {
+            return false;
+        }
+        for (Predicate<Person> term : otherTerms) {
+            if (!term.test(person)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a description of each step of the plan, with the estimated and actual number of persons left after it.
+     */
+    public String explain() {
+        plan();
+        List<String> lines = new ArrayList<>();
+        for (Step step : steps) {
+            int stepNumber = lines.size() + 1;
+            lines.add(step.actual < 0
+                    ? String.format(MESSAGE_EXPLAIN_SKIPPED, stepNumber, step.term, step.estimate)
+                    : String.format(MESSAGE_EXPLAIN_LOOKUP, stepNumber, step.term, step.estimate, step.actual));
+        }
+        for (Predicate<Person> term : otherTerms) {
+            lines.add(String.format(MESSAGE_EXPLAIN_TEST, lines.size() + 1, term));
+        }
+        return String.join("\n", lines);
+    }
+
+    /**
+     * Orders the indexed terms by their estimated matches and intersects their matches, unless this has already been
+     * done for the current version of the index.
+     */
+    private void plan() {
+        if (steps != null && planVersion == index.getVersion()) {
+            return;
+        }
+
+        steps = new ArrayList<>();
+        for (IndexedPredicate term : indexedTerms) {
+            steps.add(new Step(term, term.estimateMatches(index)));
+        }
+        steps.sort(Comparator.comparingInt(step -> step.estimate));
+
+        matchingIds = null;
+        for (Step step : steps) {
+            if (matchingIds != null && matchingIds.isEmpty()) {
+                break;
+            }
+            BitSet ids = step.term.getMatchingIds(index);
+            if (matchingIds == null) {
+                matchingIds = ids;
+            } else {
+                matchingIds.and(ids);
+            }
+            step.actual = matchingIds.cardinality();
+        }
+        planVersion = index.getVersion();
+    }
+
+    /**
+     * A lookup of an indexed term, with its estimated matches and the number of persons left after it.
+     */
+    private static class Step {
+        private final IndexedPredicate term;
+        private final int estimate;
+        private int actual = -1;
+
+        Step(IndexedPredicate term, int estimate) {
+            this.term = term;
+            this.estimate = estimate;
+        }
+    }
+}
@@ -4,8 +4,14 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
@@ -23,6 +29,10 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * The identities of all persons in the list are additionally kept in a hash index, so that identity checks do not
+ * need to scan the whole list. Persons are also indexed by their {@code Person#getId()}, which must be unique
+ * in the list, and by the fields in its {@code PersonSearchIndex}.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
@@ -30,13 +40,23 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Set<Identity> identities = new HashSet<>();
+    private final Map<Integer, Person> personsById = new HashMap<>();
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identities.contains(new Identity(toCheck));
+    }
+
+    /**
+     * Returns the person in the list with the given {@code id}, if any.
+     */
+    public Optional<Person> getById(int id) {
+        return Optional.ofNullable(personsById.get(id));
     }
 
     /**
@@ -54,10 +74,31 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void add(Person toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (contains(toAdd) || personsById.containsKey(toAdd.getId())) {
             throw new DuplicatePersonException();
         }
+        searchIndex.add(toAdd);
         internalList.add(toAdd);
+        identities.add(new Identity(toAdd));
+        personsById.put(toAdd.getId(), toAdd);
+        selectedPerson.set(toAdd);
+    }
+
+    /**
+     * Adds a person to the list, keeping the list sorted by {@code comparator}.
+     * The list must already be sorted by {@code comparator}. The person is placed after all persons that compare
+     * equal to it, which is the same position a stable sort of the list would place it in.
+     * The person must not already exist in the list.
+     */
+    public void add(Person toAdd, Comparator<Person> comparator) {
+        requireAllNonNull(toAdd, comparator);
+        if (contains(toAdd) || personsById.containsKey(toAdd.getId())) {
+            throw new DuplicatePersonException();
+        }
+        searchIndex.add(toAdd);
+        internalList.add(upperBound(toAdd, comparator), toAdd);
+        identities.add(new Identity(toAdd));
+        personsById.put(toAdd.getId(), toAdd);
         selectedPerson.set(toAdd);
     }
 
@@ -73,12 +114,65 @@ public class UniquePersonList implements Iterable<Person> {
         if (index == -1) {
             throw new PersonNotFoundException();
         }
+        // Use the instance in the list, which may be only equal to target and have another id.
+        target = internalList.get(index);
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        if ((!target.isSamePerson(editedPerson) && contains(editedPerson))
+                || (target.getId() != editedPerson.getId() && personsById.containsKey(editedPerson.getId()))) {
             throw new DuplicatePersonException();
         }
 
+        searchIndex.remove(target);
+        searchIndex.add(editedPerson);
         internalList.set(index, editedPerson);
+        identities.remove(new Identity(target));
+        identities.add(new Identity(editedPerson));
+        personsById.remove(target.getId());
+        personsById.put(editedPerson.getId(), editedPerson);
+        selectedPerson.set(editedPerson);
+    }
+
+    /**
+     * Replaces the person {@code target} in the list with {@code editedPerson}, keeping the list sorted by
+     * {@code comparator}.
+     * The list must already be sorted by {@code comparator}. {@code editedPerson} is moved to the same position a
+     * stable sort of the list would place it in.
+     * {@code target} must exist in the list.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     */
+    public void setPerson(Person target, Person editedPerson, Comparator<Person> comparator) {
+        requireAllNonNull(target, editedPerson, comparator);
+
+        int index = internalList.indexOf(target);
+        if (index == -1) {
+            throw new PersonNotFoundException();
+        }
+        // Use the instance in the list, which may be only equal to target and have another id.
+        target = internalList.get(index);
+
+        if ((!target.isSamePerson(editedPerson) && contains(editedPerson))
+                || (target.getId() != editedPerson.getId() && personsById.containsKey(editedPerson.getId()))) {
+            throw new DuplicatePersonException();
+        }
+
+        searchIndex.remove(target);
+        searchIndex.add(editedPerson);
+        boolean isInOrder = (index == 0 || comparator.compare(internalList.get(index - 1), editedPerson) <= 0)
+                && (index == internalList.size() - 1
+                        || comparator.compare(editedPerson, internalList.get(index + 1)) <= 0);
+        if (isInOrder) {
+            internalList.set(index, editedPerson);
+        } else {
+            internalList.remove(index);
+            // A stable sort keeps the relative order between the edited person and the persons it compares equal to.
+            int newIndex = Math.min(Math.max(index, lowerBound(editedPerson, comparator)),
+                    upperBound(editedPerson, comparator));
+            internalList.add(newIndex, editedPerson);
+        }
+        identities.remove(new Identity(target));
+        identities.add(new Identity(editedPerson));
+        personsById.remove(target.getId());
+        personsById.put(editedPerson.getId(), editedPerson);
         selectedPerson.set(editedPerson);
     }
 
@@ -90,9 +184,11 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
+            throw new PersonNotFoundException();
+        }
         if (selectedPerson.get() != null && selectedPerson.get().equals(toRemove)) {
-            int index = internalList.indexOf(toRemove);
-            assert index >= 0 : "person to be removed should exist in the internal list.";
             if (internalList.size() == 1) {
                 selectedPerson.set(null);
             } else if (index == internalList.size() - 1) {
@@ -101,9 +197,11 @@ public class UniquePersonList implements Iterable<Person> {
                 selectedPerson.set(internalList.get(index + 1));
             }
         }
-        if (!internalList.remove(toRemove)) {
-            throw new PersonNotFoundException();
-        }
+        Person removed = internalList.get(index);
+        searchIndex.remove(removed);
+        internalList.remove(index);
+        identities.remove(new Identity(removed));
+        personsById.remove(removed.getId());
     }
 
     /**
@@ -111,7 +209,10 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void clear() {
         selectedPerson.set(null);
+        searchIndex.clear();
         internalList.clear();
+        identities.clear();
+        personsById.clear();
     }
 
     /**
@@ -123,7 +224,13 @@ public class UniquePersonList implements Iterable<Person> {
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        searchIndex.clear();
+        replacement.internalList.forEach(searchIndex::add);
         internalList.setAll(replacement.internalList);
+        identities.clear();
+        identities.addAll(replacement.identities);
+        personsById.clear();
+        personsById.putAll(replacement.personsById);
         selectedPerson.set(null);
     }
 
@@ -133,14 +240,29 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Set<Identity> replacementIdentities = new HashSet<>();
+        Map<Integer, Person> replacementPersonsById = new HashMap<>();
+        for (Person person : persons) {
+            if (!replacementIdentities.add(new Identity(person))
+                    || replacementPersonsById.putIfAbsent(person.getId(), person) != null) {
+                throw new DuplicatePersonException();
+            }
         }
 
+        searchIndex.clear();
+        persons.forEach(searchIndex::add);
         internalList.setAll(persons);
+        identities.clear();
+        identities.addAll(replacementIdentities);
+        personsById.clear();
+        personsById.putAll(replacementPersonsById);
         selectedPerson.set(null);
     }
 
+    public PersonSearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+
     /**
      * Returns the selected person as an {@code ObservableValue}.
      */
@@ -185,16 +307,71 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the index of the first person in the sorted list that compares equal to or greater than
+     * {@code person}.
+     */
+    private int lowerBound(Person person, Comparator<Person> comparator) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(internalList.get(mid), person) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first person in the sorted list that compares greater than {@code person}.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private int upperBound(Person person, Comparator<Person> comparator) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(internalList.get(mid), person) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
             }
         }
-        return true;
+        return low;
+    }
+
+    /**
+     * Identity fields of a person as defined by {@code Person#isSamePerson(Person)}, used as the key of the index.
+     */
+    private static class Identity {
+        private final Name name;
+        private final Phone phone;
+
+        Identity(Person person) {
+            this.name = person.getName();
+            this.phone = person.getPhone();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Identity)) {
+                return false;
+            }
+
+            Identity otherIdentity = (Identity) other;
+            return name.equals(otherIdentity.name)
+                    && phone.equals(otherIdentity.phone);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, phone);
+        }
     }
 }
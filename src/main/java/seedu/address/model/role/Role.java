@@ -7,9 +7,16 @@ import static seedu.address.commons.util.StyleUtil.MESSAGE_INCORRECT_CAPITALIZAT
 import static seedu.address.commons.util.StyleUtil.hasConsecutiveSpaces;
 import static seedu.address.commons.util.StyleUtil.isCapitalizedWithLetters;
 
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
 /**
  * Represents a Role for a contact in the address book.
  * Guarantees: immutable; role name is valid as declared in {@link #isValidRoleName(String)}
+ *
+ * Roles are few and shared by many persons, so equal roles should be obtained through {@link #of(String)}, which
+ * returns one shared instance per role name.
  */
 public class Role {
     public static final int PERSON_MAX_ROLES = 3;
@@ -22,6 +29,12 @@ public class Role {
             + "people with at least one role.";
     public static final String VALIDATION_REGEX = "^[a-zA-Z0-9 ]+$";
 
+    /**
+     * Shared roles, keyed by their own name so that a role no person holds any more can be garbage collected and
+     * dropped from the pool. Guarded by its own lock.
+     */
+    private static final Map<String, WeakReference<Role>> pool = new WeakHashMap<>();
+
     public final String roleName;
 
     /**
@@ -35,6 +48,26 @@ public class Role {
         this.roleName = roleName;
     }
 
+    /**
+     * Returns the shared {@code Role} with the given name, creating it if there is none yet.
+     *
+     * @param roleName A valid role name.
+     */
+    public static Role of(String roleName) {
+        requireNonNull(roleName);
+        synchronized (pool) {
+            WeakReference<Role> reference = pool.get(roleName);
+            Role role = reference == null ? null : reference.get();
+            if (role == null) {
+                role = new Role(roleName);
+                // Removed first, as put keeps the key of an existing entry, which the new role does not hold.
+                pool.remove(roleName);
+                pool.put(role.roleName, new WeakReference<>(role));
+            }
+            return role;
+        }
+    }
+
     /**
      * Returns true if a given string is a valid role name.
      */
@@ -0,0 +1,153 @@
+package seedu.address.model.role;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * Index from each distinct {@code Role} to the ids of the persons holding it, together with a trigram index from
+ * each lower-cased trigram of a role name to the roles containing it.
+ * Substring searches take the roles containing every trigram of the substring as candidates, and verify only those.
+ *
+ * @see Person#getId()
+ */
+public class RoleIndex {
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<Role, BitSet> idsByRole = new HashMap<>();
+    private final Map<String, Set<Role>> rolesByTrigram = new HashMap<>();
+
+    /**
+     * Adds the roles of {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (Role role : person.getRoles()) {
+            BitSet ids = idsByRole.get(role);
+            if (ids == null) {
+                ids = new BitSet();
+                idsByRole.put(role, ids);
+                for (String trigram : trigramsOf(role.roleName.toLowerCase(Locale.ROOT))) {
+                    rolesByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(role);
+                }
+            }
+            ids.set(person.getId());
+        }
+    }
+
+    /**
+     * Removes the roles of {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (Role role : person.getRoles()) {
+            BitSet ids = idsByRole.get(role);
+            if (ids == null) {
+                continue;
+            }
+            ids.clear(person.getId());
+            if (!ids.isEmpty()) {
+                continue;
+            }
+            idsByRole.remove(role);
+            for (String trigram : trigramsOf(role.roleName.toLowerCase(Locale.ROOT))) {
+                Set<Role> roles = rolesByTrigram.get(trigram);
+                roles.remove(role);
+                if (roles.isEmpty()) {
+                    rolesByTrigram.remove(trigram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all roles from the index.
+     */
+    public void clear() {
+        idsByRole.clear();
+        rolesByTrigram.clear();
+    }
+
+    /**
+     * Returns the ids of the persons with at least one role containing {@code substring}, ignoring case, as
+     * defined by {@link StringUtil#containsMultiWordSubstringIgnoreCase(String, String)}.
+     * An empty {@code substring} matches every person with at least one role.
+     */
+    public BitSet getIds(String substring) {
+        requireNonNull(substring);
+        String preppedSubstring = substring.trim().toLowerCase(Locale.ROOT);
+        BitSet ids = new BitSet();
+        if (substring.isEmpty()) {
+            idsByRole.values().forEach(ids::or);
+            return ids;
+        }
+
+        for (Role role : getCandidates(preppedSubstring)) {
+            if (StringUtil.containsMultiWordSubstringIgnoreCase(role.roleName, substring)) {
+                ids.or(idsByRole.get(role));
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the sum over the candidate roles for {@code substring} of the number of persons holding that role,
+     * without verifying the candidates.
+     * This is an upper bound of the number of ids returned by {@link #getIds(String)}.
+     */
+    public int countCandidateIds(String substring) {
+        requireNonNull(substring);
+        Collection<Role> candidates = substring.isEmpty()
+                ? idsByRole.keySet()
+                : getCandidates(substring.trim().toLowerCase(Locale.ROOT));
+        int count = 0;
+        for (Role role : candidates) {
+            count += idsByRole.get(role).cardinality();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the roles that contain every trigram of {@code preppedSubstring}, or all roles if it is too short to
+     * have any trigram.
+     */
+    private Collection<Role> getCandidates(String preppedSubstring) {
+        Set<String> trigrams = trigramsOf(preppedSubstring);
+        if (trigrams.isEmpty()) {
+            return idsByRole.keySet();
+        }
+
+        Set<Role> smallest = null;
+        for (String trigram : trigrams) {
+            Set<Role> roles = rolesByTrigram.get(trigram);
+            if (roles == null) {
+                return Set.of();
+            }
+            if (smallest == null || roles.size() < smallest.size()) {
+                smallest = roles;
+            }
+        }
+        Set<Role> candidates = new HashSet<>(smallest);
+        for (String trigram : trigrams) {
+            candidates.retainAll(rolesByTrigram.get(trigram));
+        }
+        return candidates;
+    }
+
+    private static Set<String> trigramsOf(String s) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= s.length(); i++) {
+            trigrams.add(s.substring(i, i + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+}
@@ -1,17 +1,24 @@
 package seedu.address.model.role;
 
+import java.util.BitSet;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.IndexedPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
 
 /**
  * Tests that a {@code Person}'s {@code roles} contains any of the strings given as substrings.
+ * As roles are shared between persons, each distinct role is only matched against the strings once. The results are
+ * kept in a concurrent map, as the predicate may be tested from several threads.
  */
-public class RolesContainSubstringsPredicate implements Predicate<Person> {
+public class RolesContainSubstringsPredicate implements IndexedPredicate {
     private final List<String> strings;
+    private final Map<Role, Boolean> matchesByRole = new ConcurrentHashMap<>();
 
     public RolesContainSubstringsPredicate(List<String> strings) {
         this.strings = strings;
@@ -22,6 +29,20 @@ public class RolesContainSubstringsPredicate implements Predicate<Person> {
         return person.getRoles().stream().anyMatch(this::roleContainsSubstrings);
     }
 
+    @Override
+    public BitSet getMatchingIds(PersonSearchIndex index) {
+        BitSet ids = new BitSet();
+        for (String str : strings) {
+            ids.or(index.getRoleIndex().getIds(str));
+        }
+        return ids;
+    }
+
+    @Override
+    public int estimateMatches(PersonSearchIndex index) {
+        return strings.stream().mapToInt(str -> index.getRoleIndex().countCandidateIds(str)).sum();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -37,16 +58,21 @@ public class RolesContainSubstringsPredicate implements Predicate<Person> {
         return strings.equals(otherRoleContainsSubstringsPredicate.strings);
     }
 
+    @Override
+    public int hashCode() {
+        return strings.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("strings", strings).toString();
     }
 
     /**
-     * Returns true if the tag contains any of the keywords as a substring.
+     * Returns true if the role contains any of the strings as a substring.
      */
     private boolean roleContainsSubstrings(Role role) {
-        return strings.stream().anyMatch(str -> str.isEmpty()
-                || StringUtil.containsMultiWordSubstringIgnoreCase(role.roleName, str));
+        return matchesByRole.computeIfAbsent(role, unused -> strings.stream().anyMatch(str -> str.isEmpty()
+                || StringUtil.containsMultiWordSubstringIgnoreCase(role.roleName, str)));
     }
 }
@@ -3,9 +3,16 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; tag name is valid as declared in {@link #isValidTagName(String)}
+ *
+ * Tags are few and shared by many persons, so equal tags should be obtained through {@link #of(String)}, which
+ * returns one shared instance per tag name.
  */
 public class Tag {
     public static final int PERSON_MAX_TAGS = 5;
@@ -15,6 +22,12 @@ public class Tag {
             + "and each person can have a maximum of 5 tags.";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    /**
+     * Shared tags, keyed by their own name so that a tag no person holds any more can be garbage collected and
+     * dropped from the pool. Guarded by its own lock.
+     */
+    private static final Map<String, WeakReference<Tag>> pool = new WeakHashMap<>();
+
     public final String tagName;
 
     /**
@@ -28,6 +41,26 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the shared {@code Tag} with the given name, creating it if there is none yet.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        synchronized (pool) {
+            WeakReference<Tag> reference = pool.get(tagName);
+            Tag tag = reference == null ? null : reference.get();
+            if (tag == null) {
+                tag = new Tag(tagName);
+                // Removed first, as put keeps the key of an existing entry, which the new tag does not hold.
+                pool.remove(tagName);
+                pool.put(tag.tagName, new WeakReference<>(tag));
+            }
+            return tag;
+        }
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
@@ -0,0 +1,83 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Index from each distinct {@code Tag} to the ids of the persons with that tag, stored as a bitmap.
+ *
+ * @see Person#getId()
+ */
+public class TagIndex {
+    private final Map<Tag, BitSet> idsByTag = new HashMap<>();
+
+    /**
+     * Adds the tags of {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (Tag tag : person.getTags()) {
+            idsByTag.computeIfAbsent(tag, unused -> new BitSet()).set(person.getId());
+        }
+    }
+
+    /**
+     * Removes the tags of {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (Tag tag : person.getTags()) {
+            BitSet ids = idsByTag.get(tag);
+            if (ids == null) {
+                continue;
+            }
+            ids.clear(person.getId());
+            if (ids.isEmpty()) {
+                idsByTag.remove(tag);
+            }
+        }
+    }
+
+    /**
+     * Removes all tags from the index.
+     */
+    public void clear() {
+        idsByTag.clear();
+    }
+
+    /**
+     * Returns the ids of the persons with at least one tag that satisfies {@code tagPredicate}.
+     * {@code tagPredicate} is tested once for each distinct tag.
+     */
+    public BitSet getIds(Predicate<Tag> tagPredicate) {
+        requireNonNull(tagPredicate);
+        BitSet ids = new BitSet();
+        for (Map.Entry<Tag, BitSet> entry : idsByTag.entrySet()) {
+            if (tagPredicate.test(entry.getKey())) {
+                ids.or(entry.getValue());
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the sum over the tags that satisfy {@code tagPredicate} of the number of persons with that tag.
+     * This is an upper bound of the number of ids returned by {@link #getIds(Predicate)}.
+     */
+    public int countIds(Predicate<Tag> tagPredicate) {
+        requireNonNull(tagPredicate);
+        int count = 0;
+        for (Map.Entry<Tag, BitSet> entry : idsByTag.entrySet()) {
+            if (tagPredicate.test(entry.getKey())) {
+                count += entry.getValue().cardinality();
+            }
+        }
+        return count;
+    }
+}
@@ -1,17 +1,24 @@
 package seedu.address.model.tag;
 
+import java.util.BitSet;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.IndexedPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
 
 /**
  * Tests that a {@code Person}'s {@code tags} contains any of the keywords given.
+ * As tags are shared between persons, each distinct tag is only matched against the keywords once. The results are
+ * kept in a concurrent map, as the predicate may be tested from several threads.
  */
-public class TagsContainKeywordsPredicate implements Predicate<Person> {
+public class TagsContainKeywordsPredicate implements IndexedPredicate {
     private final List<String> keywords;
+    private final Map<Tag, Boolean> matchesByTag = new ConcurrentHashMap<>();
 
     public TagsContainKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
@@ -22,6 +29,16 @@ public class TagsContainKeywordsPredicate implements Predicate<Person> {
         return person.getTags().stream().anyMatch(this::tagContainsKeywords);
     }
 
+    @Override
+    public BitSet getMatchingIds(PersonSearchIndex index) {
+        return index.getTagIndex().getIds(this::tagContainsKeywords);
+    }
+
+    @Override
+    public int estimateMatches(PersonSearchIndex index) {
+        return index.getTagIndex().countIds(this::tagContainsKeywords);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -37,6 +54,11 @@ public class TagsContainKeywordsPredicate implements Predicate<Person> {
         return keywords.equals(otherTagsContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
@@ -46,6 +68,7 @@ public class TagsContainKeywordsPredicate implements Predicate<Person> {
      * Returns true if the tag contains any of the keywords as a substring.
      */
     private boolean tagContainsKeywords(Tag tag) {
-        return keywords.stream().anyMatch(keyword -> StringUtil.containsSubstringIgnoreCase(tag.tagName, keyword));
+        return matchesByTag.computeIfAbsent(tag, unused -> keywords.stream()
+                .anyMatch(keyword -> StringUtil.containsSubstringIgnoreCase(tag.tagName, keyword)));
     }
 }
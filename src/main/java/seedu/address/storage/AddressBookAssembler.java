@@ -0,0 +1,78 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.UniqueEventList;
+import seedu.address.model.person.Person;
+
+/**
+ * Assembles an {@code AddressBook} from saved persons and events converted one at a time, checking that the saved
+ * data does not contain duplicates.
+ * The persons and events are collected and only put into the address book when it is built, so that the persons are
+ * sorted once instead of being kept sorted after every person added.
+ * All persons must be added before any event, as events may refer to persons saved without an id.
+ */
+class AddressBookAssembler {
+    private final List<Person> persons = new ArrayList<>();
+    private final Set<Integer> ids = new HashSet<>();
+    private final UniqueEventList events = new UniqueEventList();
+
+    /** Ids of the persons added, keyed by {@link JsonAdaptedPersonReference#legacyKey}, which is their identity. */
+    private final Map<List<String>, Integer> legacyIds = new HashMap<>();
+
+    /**
+     * Adds a saved person.
+     *
+     * @throws IllegalValueException if the person or its id has already been added.
+     */
+    public void addPerson(Person person) throws IllegalValueException {
+        requireNonNull(person);
+        List<String> legacyKey = JsonAdaptedPersonReference.legacyKey(person.getName(), person.getPhone());
+        if (legacyIds.containsKey(legacyKey)) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        if (!ids.add(person.getId())) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON_ID);
+        }
+        persons.add(person);
+        legacyIds.put(legacyKey, person.getId());
+    }
+
+    /**
+     * Returns the ids of the persons added so far, keyed by {@link JsonAdaptedPersonReference#legacyKey}, to
+     * resolve the attendance of events saved without ids.
+     */
+    public Map<List<String>, Integer> getLegacyIds() {
+        return legacyIds;
+    }
+
+    /**
+     * Adds a saved event.
+     *
+     * @throws IllegalValueException if the event has already been added.
+     */
+    public void addEvent(Event event) throws IllegalValueException {
+        requireNonNull(event);
+        if (events.contains(event)) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_EVENT);
+        }
+        events.add(event);
+    }
+
+    /**
+     * Returns the address book of the persons and events added.
+     */
+    public AddressBook build() {
+        return new AddressBook(persons, events.asUnmodifiableObservableList());
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.zip.Deflater;
+
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts address book data files between the {@code StorageFormat}s, such as to import a single data file into a
+ * sharded directory, or to export a sharded directory as a single data file.
+ */
+public class AddressBookFormatConverter {
+
+    /**
+     * Returns a storage that saves the address book to {@code filePath} in {@code format}.
+     * The storage can read data files saved in any format.
+     */
+    public static AddressBookStorage createStorage(StorageFormat format, Path filePath) {
+        return createStorage(format, filePath, Deflater.NO_COMPRESSION);
+    }
+
+    /**
+     * Returns a storage that saves the address book to {@code filePath} in {@code format}, compressed with
+     * {@code compressionLevel} if the format is {@code StorageFormat.JSON}.
+     * The storage can read data files saved in any format, compressed or not.
+     */
+    public static AddressBookStorage createStorage(StorageFormat format, Path filePath, int compressionLevel) {
+        requireNonNull(format);
+        requireNonNull(filePath);
+        switch (format) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath);
+        case SHARDED:
+            return new ShardedAddressBookStorage(filePath);
+        case JSON:
+        default:
+            return new JsonAddressBookStorage(filePath, compressionLevel);
+        }
+    }
+
+    /**
+     * Returns the format that the data file at {@code filePath} is saved in.
+     *
+     * @throws IOException if the file could not be read.
+     */
+    public static StorageFormat detectFormat(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (Files.isDirectory(filePath)) {
+            return StorageFormat.SHARDED;
+        }
+        return Files.exists(filePath) && BinaryAddressBookStorage.isBinarySnapshot(filePath)
+                ? StorageFormat.BINARY
+                : StorageFormat.JSON;
+    }
+
+    /**
+     * Converts the data file at {@code source}, in whichever format it is saved in, into a data file at
+     * {@code target} saved in {@code targetFormat}. {@code source} and {@code target} may be the same file.
+     *
+     * @return false if there is no data file at {@code source}.
+     * @throws DataLoadingException if the data file at {@code source} could not be read.
+     * @throws IOException if the data file at {@code target} could not be written.
+     */
+    public static boolean convert(Path source, Path target, StorageFormat targetFormat)
+            throws DataLoadingException, IOException {
+        requireNonNull(targetFormat);
+        Optional<ReadOnlyAddressBook> addressBook;
+        try {
+            addressBook = createStorage(detectFormat(source), source).readAddressBook(source);
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        if (addressBook.isEmpty()) {
+            return false;
+        }
+        createStorage(targetFormat, target).saveAddressBook(addressBook.get(), target);
+        return true;
+    }
+}
@@ -0,0 +1,171 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+
+/**
+ * An append-only file of the changes made to an address book since its snapshot was saved, one JSON object per line.
+ * The first line names the snapshot that the changes were made to, so that the journal of an older snapshot is not
+ * replayed on top of a newer one if saving stopped between writing the newer snapshot and starting its journal.
+ * Each change is preceded on its line by the CRC32C of its JSON object, and each write is forced to the disk before
+ * it returns, so that a change that was appended survives a crash, and a change that was not fully written is never
+ * replayed.
+ */
+class AddressBookJournal {
+    public static final String FILE_EXTENSION = ".journal";
+    public static final String MESSAGE_INVALID_CHANGE = "Journal %s has an invalid change on line %d: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookJournal.class);
+    private static final String SNAPSHOT_ID_FIELD = "snapshotId";
+    private static final String LINE_FORMAT = "%08x %s";
+    private static final String MESSAGE_CHECKSUM_MISMATCH = "Change does not match its checksum";
+
+    private final Path filePath;
+
+    /**
+     * Creates a journal for the address book snapshot saved at {@code snapshotFilePath}.
+     */
+    AddressBookJournal(Path snapshotFilePath) {
+        requireNonNull(snapshotFilePath);
+        filePath = snapshotFilePath.resolveSibling(snapshotFilePath.getFileName() + FILE_EXTENSION);
+    }
+
+    Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Replaces the journal with an empty one for the snapshot with {@code snapshotId}.
+     */
+    void start(String snapshotId) throws IOException {
+        requireNonNull(snapshotId);
+        write(JsonUtil.toSingleLineJsonString(Map.of(SNAPSHOT_ID_FIELD, snapshotId)) + System.lineSeparator(),
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Appends {@code changes} to the journal, which must have been started.
+     */
+    void append(List<AddressBookChange> changes) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (AddressBookChange change : changes) {
+            String json = JsonUtil.toSingleLineJsonString(new JsonAdaptedAddressBookChange(change));
+            lines.append(String.format(LINE_FORMAT, computeChecksum(json), json)).append(System.lineSeparator());
+        }
+        write(lines.toString(), StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private void write(String content, OpenOption... options) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, options)) {
+            ByteBuffer buffer = StandardCharsets.UTF_8.encode(content);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+    }
+
+
+    /**
+     * Makes the changes in the journal to {@code addressBook}, if the journal was started for the snapshot with
+     * {@code snapshotId} that {@code addressBook} was read from. An incomplete last line, left by an append that was
+     * cut short, is skipped.
+     *
+     * @return the number of changes made.
+     * @throws DataLoadingException if the journal could not be read, or has a change that could not be made.
+     */
+    int replay(AddressBook addressBook, String snapshotId) throws DataLoadingException {
+        requireNonNull(addressBook);
+        if (snapshotId == null || !Files.exists(filePath)) {
+            return 0;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        if (lines.isEmpty() || !snapshotId.equals(readSnapshotId(lines.get(0)))) {
+            logger.info("Ignoring journal " + filePath + " as it was not started for the snapshot read");
+            return 0;
+        }
+
+        List<AddressBookChange> changes = new ArrayList<>();
+        for (int i = 1; i < lines.size(); i++) {
+            try {
+                changes.add(JsonUtil.fromJsonString(checkLine(lines.get(i)), JsonAdaptedAddressBookChange.class)
+                        .toModelType());
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Skipping incomplete last line of journal " + filePath);
+                    break;
+                }
+                throw new DataLoadingException(new IllegalValueException(
+                        String.format(MESSAGE_INVALID_CHANGE, filePath, i + 1, e.getMessage())));
+            } catch (IllegalValueException e) {
+                throw new DataLoadingException(new IllegalValueException(
+                        String.format(MESSAGE_INVALID_CHANGE, filePath, i + 1, e.getMessage())));
+            }
+        }
+
+        for (int i = 0; i < changes.size(); i++) {
+            try {
+                changes.get(i).applyTo(addressBook);
+            } catch (RuntimeException e) {
+                throw new DataLoadingException(new IllegalValueException(
+                        String.format(MESSAGE_INVALID_CHANGE, filePath, i + 2, e)));
+            }
+        }
+        return changes.size();
+    }
+
+    /**
+     * Returns the JSON object of a change line, after checking it against the CRC32C before it.
+     *
+     * @throws IOException if the line has no CRC32C, or the JSON object does not match it.
+     */
+    private static String checkLine(String line) throws IOException {
+        int separator = line.indexOf(' ');
+        String json = line.substring(separator + 1);
+        if (separator < 0 || !line.equals(String.format(LINE_FORMAT, computeChecksum(json), json))) {
+            throw new IOException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+        return json;
+    }
+
+    private static long computeChecksum(String json) {
+        CRC32C crc = new CRC32C();
+        crc.update(json.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+
+    private static String readSnapshotId(String headerLine) {
+        try {
+            Object snapshotId = JsonUtil.fromJsonString(headerLine, Map.class).get(SNAPSHOT_ID_FIELD);
+            return snapshotId == null ? null : snapshotId.toString();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
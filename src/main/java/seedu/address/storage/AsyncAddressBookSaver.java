@@ -0,0 +1,108 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books to an {@code AddressBookStorage} in the background, so that callers do not wait for the data
+ * file to be written.
+ * At most one save is in progress at a time. Address books given while a save is in progress replace each other,
+ * so a burst of saves ends with only the latest address book being written.
+ * The address books given must not change after they are given, e.g. {@code AddressBookSnapshot}s.
+ */
+public class AsyncAddressBookSaver {
+    private static final Logger logger = LogsCenter.getLogger(AsyncAddressBookSaver.class);
+
+    private final AddressBookStorage storage;
+    private final Executor executor;
+    private final Consumer<Exception> failureHandler;
+
+    /** The latest address book given that has not been taken for saving yet. */
+    private ReadOnlyAddressBook pendingAddressBook;
+
+    /** Whether a task to save the pending address books has been given to the executor and has not finished. */
+    private boolean isSaving;
+
+    /**
+     * Creates a saver that saves to {@code storage} with tasks run by {@code executor}, and gives the exceptions
+     * thrown by failed saves to {@code failureHandler} on the thread of the executor.
+     */
+    public AsyncAddressBookSaver(AddressBookStorage storage, Executor executor, Consumer<Exception> failureHandler) {
+        requireAllNonNull(storage, executor, failureHandler);
+        this.storage = storage;
+        this.executor = executor;
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Returns an executor that runs tasks one at a time on a daemon thread, which does not keep the app running.
+     */
+    public static Executor newSaverThread() {
+        return Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Saves {@code addressBook} in the background, unless another address book is given before it is saved.
+     */
+    public synchronized void save(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        pendingAddressBook = addressBook;
+        if (!isSaving) {
+            isSaving = true;
+            executor.execute(this::savePending);
+        }
+    }
+
+    /**
+     * Waits until the address books given so far have been saved, or have failed to save.
+     */
+    public synchronized void flush() {
+        while (isSaving) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                logger.warning("Interrupted while waiting for the address book to be saved");
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void savePending() {
+        ReadOnlyAddressBook addressBook;
+        while ((addressBook = takePending()) != null) {
+            try {
+                storage.saveAddressBook(addressBook);
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Failed to save the address book: " + e);
+                failureHandler.accept(e);
+            }
+        }
+    }
+
+    /**
+     * Returns the pending address book, or null after marking the saver as idle if there is none.
+     */
+    private synchronized ReadOnlyAddressBook takePending() {
+        ReadOnlyAddressBook addressBook = pendingAddressBook;
+        pendingAddressBook = null;
+        if (addressBook == null) {
+            isSaving = false;
+            notifyAll();
+        }
+        return addressBook;
+    }
+}
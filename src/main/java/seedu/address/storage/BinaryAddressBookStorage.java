@@ -0,0 +1,396 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.PersonReference;
+import seedu.address.model.person.EmergencyContact;
+import seedu.address.model.person.Person;
+import seedu.address.model.role.Role;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot on the hard disk.
+ * Strings repeated between records, such as tags, roles, addresses and email domains, are saved once in a string
+ * table, and the file is read through a read-only {@code MappedByteBuffer}, which is unmapped once the snapshot is
+ * read so that the file can be replaced by the next save.
+ * A data file saved in another format is read in that format, and saved as a binary snapshot from then on.
+ *
+ * <p>The layout of a snapshot, with every number an int unless stated otherwise, is:
+ * <pre>
+ * magic bytes "CCAB", format version
+ * persons: count, then for each person its id, name, phone, email local part, email domain, address,
+ *          pin (1 byte), emergency contact name and phone, enrollment year, roles and tags (each a count followed
+ *          by the strings)
+ * events: count, then for each event its name, duration, description, attendee count and attendee ids
+ * string table: count, then for each string its length in bytes and its UTF-8 bytes
+ * string table offset: the position of the string table in the file
+ * </pre>
+ * Strings in records are saved as their index in the string table, or -1 if there is none.
+ * The string table comes after the records, so that records are written to the file as they are encoded, without
+ * holding them in memory until all their strings are known.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final int FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_CORRUPTED_SNAPSHOT = "The binary snapshot is corrupted.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "The binary snapshot has unsupported format version %d.";
+
+    private static final byte[] MAGIC = {'C', 'C', 'A', 'B'};
+    private static final int NO_STRING = -1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts like a binary snapshot.
+     *
+     * @throws IOException if the file could not be read.
+     */
+    public static boolean isBinarySnapshot(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        byte[] start;
+        try (InputStream in = Files.newInputStream(filePath)) {
+            start = in.readNBytes(MAGIC.length);
+        }
+        return Arrays.equals(start, MAGIC);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (Files.isDirectory(filePath)) {
+            logger.info(filePath + " is a sharded directory, reading it as " + StorageFormat.SHARDED);
+            return new ShardedAddressBookStorage(filePath).readAddressBook(filePath);
+        }
+        return new CheckedDataFile(filePath).read(generationPath -> readGeneration(generationPath, filePath));
+    }
+
+    /**
+     * Reads the address book in one generation of the {@code CheckedDataFile} at {@code dataFilePath}, without
+     * checking its checksum.
+     */
+    static Optional<ReadOnlyAddressBook> readGeneration(Path filePath, Path dataFilePath)
+            throws DataLoadingException {
+        if (Files.isDirectory(filePath)) {
+            logger.info(filePath + " is a sharded directory, reading it as " + StorageFormat.SHARDED);
+            return new ShardedAddressBookStorage(filePath).readAddressBook(filePath);
+        }
+        try {
+            if (!isBinarySnapshot(filePath)) {
+                logger.info(filePath + " is not a binary snapshot, reading it as " + StorageFormat.JSON);
+                return JsonAddressBookStorage.readGeneration(filePath, dataFilePath);
+            }
+            MappedByteBuffer buffer;
+            try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            try {
+                return Optional.of(new SnapshotReader(buffer).read());
+            } finally {
+                unmap(buffer);
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Unmaps {@code buffer} without waiting for it to be garbage collected, as a file that is still mapped cannot be
+     * replaced on some platforms, such as Windows.
+     * {@code buffer} must not be used afterwards. If it cannot be unmapped, it is left to be unmapped when it is
+     * garbage collected.
+     */
+    private static void unmap(MappedByteBuffer buffer) {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            invokeCleaner.invoke(theUnsafe.get(null), buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            logger.fine("Could not unmap binary snapshot, leaving it to be garbage collected: " + e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        new CheckedDataFile(filePath).save(stream -> {
+            DataOutputStream out = new DataOutputStream(stream);
+            out.write(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            new SnapshotWriter(out).write(addressBook);
+            out.flush();
+        });
+    }
+
+    /**
+     * Writes the records of an address book, collecting their strings into a string table written after them.
+     */
+    private static class SnapshotWriter {
+        private final Map<String, Integer> stringIndexes = new LinkedHashMap<>();
+        private final DataOutputStream records;
+
+        SnapshotWriter(DataOutputStream out) {
+            this.records = out;
+        }
+
+        void write(ReadOnlyAddressBook addressBook) throws IOException {
+            records.writeInt(addressBook.getPersonList().size());
+            for (Person person : addressBook.getPersonList()) {
+                writePerson(person);
+            }
+            records.writeInt(addressBook.getEventList().size());
+            for (Event event : addressBook.getEventList()) {
+                writeEvent(event);
+            }
+
+            int stringTableOffset = records.size();
+            records.writeInt(stringIndexes.size());
+            for (String string : stringIndexes.keySet()) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                records.writeInt(bytes.length);
+                records.write(bytes);
+            }
+            records.writeInt(stringTableOffset);
+        }
+
+        private void writePerson(Person person) throws IOException {
+            records.writeInt(person.getId());
+            writeString(person.getName().fullName);
+            writeString(person.getPhone().value);
+            String email = person.getEmail().value;
+            int domainStart = email.lastIndexOf('@');
+            writeString(domainStart < 0 ? email : email.substring(0, domainStart));
+            writeString(domainStart < 0 ? null : email.substring(domainStart + 1));
+            writeString(person.getAddress().value);
+            records.writeBoolean(person.getPin().value);
+            EmergencyContact emergencyContact = person.getEmergencyContact();
+            writeString(emergencyContact.name == null ? null : emergencyContact.name.fullName);
+            writeString(emergencyContact.phone == null ? null : emergencyContact.phone.value);
+            writeString(person.getEnrollmentYear().toString());
+            records.writeInt(person.getRoles().size());
+            for (Role role : person.getRoles()) {
+                writeString(role.roleName);
+            }
+            records.writeInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                writeString(tag.tagName);
+            }
+        }
+
+        private void writeEvent(Event event) throws IOException {
+            writeString(event.getName().value);
+            writeString(event.getDuration().toString());
+            writeString(event.getDescription().value);
+            records.writeInt(event.getAttendance().asUnmodifiableSet().size());
+            for (PersonReference attendee : event.getAttendance().asUnmodifiableSet()) {
+                records.writeInt(attendee.getId());
+            }
+        }
+
+        private void writeString(String string) throws IOException {
+            if (string == null) {
+                records.writeInt(NO_STRING);
+                return;
+            }
+            records.writeInt(stringIndexes.computeIfAbsent(string, unused -> stringIndexes.size()));
+        }
+    }
+
+    /**
+     * Reads the records of a binary snapshot into an address book.
+     * The records are converted through their Jackson-friendly versions, so that they are validated in the same way
+     * as records read from JSON.
+     */
+    private static class SnapshotReader {
+        private final ByteBuffer buffer;
+        private String[] strings;
+
+        SnapshotReader(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        AddressBook read() throws IOException, IllegalValueException {
+            try {
+                buffer.position(MAGIC.length);
+                int version = buffer.getInt();
+                if (version != FORMAT_VERSION) {
+                    throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+                }
+                int stringTableOffset = readStringTableAtEnd();
+
+                AddressBookAssembler assembler = new AddressBookAssembler();
+                int personCount = readCount();
+                for (int i = 0; i < personCount; i++) {
+                    assembler.addPerson(readPerson().toModelType());
+                }
+                int eventCount = readCount();
+                for (int i = 0; i < eventCount; i++) {
+                    assembler.addEvent(readEvent().toModelType(assembler.getLegacyIds()));
+                }
+                if (buffer.position() != stringTableOffset) {
+                    throw new IOException(MESSAGE_CORRUPTED_SNAPSHOT);
+                }
+                return assembler.build();
+            } catch (BufferUnderflowException e) {
+                throw new IOException(MESSAGE_CORRUPTED_SNAPSHOT, e);
+            }
+        }
+
+        /**
+         * Reads the string table at the offset given at the end of the snapshot, then moves back to the records.
+         *
+         * @return the offset of the string table, where the records end.
+         */
+        private int readStringTableAtEnd() throws IOException {
+            int recordsStart = buffer.position();
+            int offsetPosition = buffer.limit() - Integer.BYTES;
+            if (offsetPosition < recordsStart) {
+                throw new IOException(MESSAGE_CORRUPTED_SNAPSHOT);
+            }
+            int stringTableOffset = buffer.getInt(offsetPosition);
+            if (stringTableOffset < recordsStart || stringTableOffset > offsetPosition) {
+                throw new IOException(MESSAGE_CORRUPTED_SNAPSHOT);
+            }
+            buffer.position(stringTableOffset);
+            readStringTable();
+            if (buffer.position() != offsetPosition) {
+                throw new IOException(MESSAGE_CORRUPTED_SNAPSHOT);
+            }
+            buffer.position(recordsStart);
+            return stringTableOffset;
+        }
+
+        private void readStringTable() throws IOException {
+            strings = new String[readCount()];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[readCount()];
+                buffer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+        }
+
+        private JsonAdaptedPerson readPerson() throws IOException {
+            int id = buffer.getInt();
+            String name = readString();
+            String phone = readString();
+            String emailLocalPart = readString();
+            String emailDomain = readString();
+            String email = emailDomain == null ? emailLocalPart : emailLocalPart + "@" + emailDomain;
+            String address = readString();
+            boolean pin = buffer.get() != 0;
+            JsonAdaptedEmergencyContact emergencyContact = new JsonAdaptedEmergencyContact(readString(), readString());
+            String enrollmentYear = readString();
+            List<JsonAdaptedRole> roles = new ArrayList<>();
+            int roleCount = readCount();
+            for (int i = 0; i < roleCount; i++) {
+                roles.add(new JsonAdaptedRole(readString()));
+            }
+            List<JsonAdaptedTag> tags = new ArrayList<>();
+            int tagCount = readCount();
+            for (int i = 0; i < tagCount; i++) {
+                tags.add(new JsonAdaptedTag(readString()));
+            }
+            return new JsonAdaptedPerson(id, name, phone, email, address, pin, emergencyContact, enrollmentYear,
+                    roles, tags);
+        }
+
+        private JsonAdaptedEvent readEvent() throws IOException {
+            String name = readString();
+            String duration = readString();
+            String description = readString();
+            List<JsonAdaptedPersonReference> attendance = new ArrayList<>();
+            int attendeeCount = readCount();
+            for (int i = 0; i < attendeeCount; i++) {
+                attendance.add(new JsonAdaptedPersonReference(buffer.getInt(), null, null));
+            }
+            return new JsonAdaptedEvent(name, duration, description, attendance);
+        }
+
+        /**
+         * Reads a count of items, which cannot be more than the bytes left in the snapshot.
+         */
+        private int readCount() throws IOException {
+            int count = buffer.getInt();
+            if (count < 0 || count > buffer.remaining()) {
+                throw new IOException(MESSAGE_CORRUPTED_SNAPSHOT);
+            }
+            return count;
+        }
+
+        private String readString() throws IOException {
+            int index = buffer.getInt();
+            if (index == NO_STRING) {
+                return null;
+            }
+            if (index < 0 || index >= strings.length) {
+                throw new IOException(MESSAGE_CORRUPTED_SNAPSHOT);
+            }
+            return strings[index];
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * A data file that a crash in the middle of a save never leaves half written.
+ * A save is written to a temporary file in the same directory and forced to the disk, before the data file is linked
+ * or copied to its previous generation and the temporary file is atomically moved over it, so that there is always a
+ * data file. Each generation has a checksum file next to it, holding the CRC32C and the length of its content.
+ * When the data file is read, a generation that does not match its checksum, or that cannot be read, is skipped in
+ * favour of the previous generation. A data file edited after it was saved no longer matches its checksum either, so
+ * its previous generation is read instead and the mismatch is logged. A generation without a checksum file, such as
+ * one saved before checksums were kept, is trusted.
+ * A data file saved over a sharded directory moves the directory whole to the previous generation, as a directory
+ * cannot be linked or copied atomically, so a generation may be a directory that is read as shards.
+ */
+class CheckedDataFile {
+    static final String PREVIOUS_GENERATION_EXTENSION = ".bak";
+    static final String CHECKSUM_EXTENSION = ".crc32c";
+
+    private static final String TEMPORARY_EXTENSION = ".tmp";
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final Logger logger = LogsCenter.getLogger(CheckedDataFile.class);
+
+    private final Path filePath;
+
+    /**
+     * Creates a {@code CheckedDataFile} for the data file at {@code filePath}.
+     */
+    CheckedDataFile(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    Path getPreviousGenerationPath() {
+        return withExtension(filePath, PREVIOUS_GENERATION_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the checksum file of the generation at {@code generationPath}.
+     */
+    static Path getChecksumPath(Path generationPath) {
+        return withExtension(generationPath, CHECKSUM_EXTENSION);
+    }
+
+    /**
+     * Writes the content of a data file.
+     */
+    @FunctionalInterface
+    interface ContentWriter {
+        /**
+         * Writes the content to {@code out}. Closing {@code out} only flushes it.
+         */
+        void write(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Reads one generation of a data file.
+     */
+    @FunctionalInterface
+    interface GenerationReader<T> {
+        Optional<T> read(Path generationPath) throws DataLoadingException;
+    }
+
+    /**
+     * Saves the content written by {@code contentWriter} as the new generation of the data file, keeping the current
+     * one as the previous generation. The data file is left as it was if the content could not be written.
+     */
+    void save(ContentWriter contentWriter) throws IOException {
+        requireNonNull(contentWriter);
+        FileUtil.createParentDirsOfFile(filePath);
+        Path temporaryPath = withExtension(filePath, TEMPORARY_EXTENSION);
+        Path temporaryChecksumPath = getChecksumPath(temporaryPath);
+
+        CRC32C crc = new CRC32C();
+        long length;
+        try (FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            OutputStream out = new CheckedOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE), crc);
+            contentWriter.write(new UnclosableOutputStream(out));
+            out.flush();
+            channel.force(true);
+            length = channel.size();
+        }
+        writeChecksum(temporaryChecksumPath, crc.getValue(), length);
+
+        if (Files.isDirectory(filePath)) {
+            deletePreviousGeneration();
+            Files.move(filePath, getPreviousGenerationPath(), StandardCopyOption.ATOMIC_MOVE);
+        } else if (Files.exists(filePath)) {
+            keepAsPreviousGeneration();
+        }
+        // The checksum of a generation is removed before the generation is replaced, and the new checksum is moved in
+        // after, so that a crash in between leaves a generation without a checksum, which is trusted, rather than a
+        // generation with the checksum of another.
+        Files.deleteIfExists(getChecksumPath(filePath));
+        Files.move(temporaryPath, filePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        Files.move(temporaryChecksumPath, getChecksumPath(filePath), StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Makes the data file the previous generation too, leaving the data file in place.
+     * The data file is hard-linked to the previous generation where the file system allows it, and copied otherwise.
+     */
+    private void keepAsPreviousGeneration() throws IOException {
+        Path previousPath = getPreviousGenerationPath();
+        deletePreviousGeneration();
+        try {
+            Files.createLink(previousPath, filePath);
+        } catch (UnsupportedOperationException | IOException e) {
+            logger.fine("Cannot link " + previousPath + " to " + filePath + ", copying it instead: " + e);
+            Path temporaryPath = withExtension(previousPath, TEMPORARY_EXTENSION);
+            Files.copy(filePath, temporaryPath, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temporaryPath, previousPath, StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        }
+        if (Files.exists(getChecksumPath(filePath))) {
+            Files.copy(getChecksumPath(filePath), getChecksumPath(previousPath));
+        }
+    }
+
+    /**
+     * Deletes the previous generation of the data file and its checksum, along with everything in the previous
+     * generation if it is a directory.
+     */
+    void deletePreviousGeneration() throws IOException {
+        Path previousPath = getPreviousGenerationPath();
+        Files.deleteIfExists(getChecksumPath(previousPath));
+        FileUtil.deleteRecursively(previousPath);
+    }
+
+    /**
+     * Reads the newest generation of the data file that matches its checksum and can be read by
+     * {@code generationReader}. Returns {@code Optional.empty()} if there is no data file.
+     *
+     * @throws DataLoadingException if no generation can be read, with the reason the newest one cannot be read.
+     */
+    <T> Optional<T> read(GenerationReader<T> generationReader) throws DataLoadingException {
+        requireNonNull(generationReader);
+        Path previousPath = getPreviousGenerationPath();
+
+        if (!Files.exists(filePath)) {
+            if (!Files.exists(previousPath)) {
+                return Optional.empty();
+            }
+            // The data file was removed, or a save by an older version was cut short after moving the data file to
+            // the previous generation.
+            logger.warning(filePath + " is missing, reading its previous generation instead");
+            verify(previousPath);
+            return generationReader.read(previousPath);
+        }
+
+        DataLoadingException failure;
+        try {
+            verify(filePath);
+            return generationReader.read(filePath);
+        } catch (DataLoadingException e) {
+            failure = e;
+        }
+
+        if (!Files.exists(previousPath)) {
+            throw failure;
+        }
+        try {
+            verify(previousPath);
+        } catch (DataLoadingException e) {
+            logger.warning("The previous generation of " + filePath + " cannot be read either: " + e.getMessage());
+            throw failure;
+        }
+        logger.warning("Cannot read " + filePath + ", reading its previous generation instead: "
+                + failure.getMessage());
+        return generationReader.read(previousPath);
+    }
+
+    /**
+     * Checks that the generation at {@code generationPath} matches its checksum, if it has one.
+     *
+     * @throws DataLoadingException if the generation does not match its checksum.
+     */
+    static void verify(Path generationPath) throws DataLoadingException {
+        Path checksumPath = getChecksumPath(generationPath);
+        try {
+            if (!Files.exists(checksumPath)) {
+                return;
+            }
+            String expected = Files.readString(checksumPath, StandardCharsets.UTF_8).trim();
+            String actual = computeChecksum(generationPath);
+            if (!expected.equals(actual)) {
+                throw new DataLoadingException(new IOException(String.format(
+                        "%s does not match its checksum: expected %s, found %s", generationPath, expected, actual)));
+            }
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Returns the checksum of the file at {@code path}, as it is written to a checksum file.
+     */
+    static String computeChecksum(Path path) throws IOException {
+        CRC32C crc = new CRC32C();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                crc.update(buffer);
+                buffer.clear();
+            }
+            return formatChecksum(crc.getValue(), channel.size());
+        }
+    }
+
+    private static void writeChecksum(Path checksumPath, long crc, long length) throws IOException {
+        try (FileChannel channel = FileChannel.open(checksumPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = StandardCharsets.UTF_8.encode(formatChecksum(crc, length));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+    }
+
+    private static String formatChecksum(long crc, long length) {
+        return String.format("%08x %d", crc, length);
+    }
+
+    private static Path withExtension(Path path, String extension) {
+        return path.resolveSibling(path.getFileName() + extension);
+    }
+
+    /**
+     * An {@code OutputStream} that only flushes when it is closed, as writers such as Jackson's close the stream they
+     * are given when they are done, before the content has been forced to the disk.
+     */
+    private static class UnclosableOutputStream extends FilterOutputStream {
+        UnclosableOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.storage;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.MessageCenter;
+
+/**
+ * The outcome of converting a saved record into the model, along with the style warnings shown while converting it,
+ * which are only shown once the record is added, so that they are shown in the order the records were saved.
+ */
+class Conversion<R> {
+    private final R result;
+    private final Exception exception;
+    private final List<String> warnings;
+
+    private Conversion(R result, Exception exception, List<String> warnings) {
+        this.result = result;
+        this.exception = exception;
+        this.warnings = warnings;
+    }
+
+    /**
+     * Converts a saved record into the model.
+     */
+    @FunctionalInterface
+    interface Converter<T, R> {
+        R convert(T record) throws IllegalValueException;
+    }
+
+    /**
+     * Converts {@code record} with {@code converter}, capturing the warnings shown while converting it.
+     */
+    static <T, R> Conversion<R> of(T record, Converter<T, R> converter) {
+        MessageCenter.startCapturingEnd();
+        R result = null;
+        Exception exception = null;
+        try {
+            result = converter.convert(record);
+        } catch (IllegalValueException | RuntimeException e) {
+            exception = e;
+        }
+        return new Conversion<>(result, exception, MessageCenter.stopCapturingEnd());
+    }
+
+    /**
+     * Converts {@code records} with {@code converter}, on the common fork-join pool if {@code isParallel}, and
+     * returns the conversions in the order of {@code records}.
+     */
+    static <T, R> List<Conversion<R>> convertAll(List<T> records, Converter<T, R> converter, boolean isParallel) {
+        Stream<T> stream = isParallel ? records.parallelStream() : records.stream();
+        return stream.map(record -> of(record, converter)).toList();
+    }
+
+    /**
+     * Shows the warnings of the conversion, and returns the converted record.
+     *
+     * @throws IllegalValueException if the record could not be converted.
+     */
+    R getResult() throws IllegalValueException {
+        warnings.forEach(MessageCenter::appendEnd);
+        if (exception instanceof IllegalValueException) {
+            throw (IllegalValueException) exception;
+        }
+        if (exception instanceof RuntimeException) {
+            throw (RuntimeException) exception;
+        }
+        return result;
+    }
+}
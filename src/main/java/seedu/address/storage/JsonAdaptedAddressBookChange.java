@@ -0,0 +1,101 @@
+package seedu.address.storage;
+
+import java.util.Arrays;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.AddressBookChange.Type;
+
+/**
+ * Jackson-friendly version of {@link AddressBookChange}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedAddressBookChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Change's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_TYPE = "Change's type is not one of %s";
+
+    private final String type;
+    private final Integer targetPersonId;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedEvent targetEvent;
+    private final JsonAdaptedEvent event;
+
+    /**
+     * Constructs a {@code JsonAdaptedAddressBookChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedAddressBookChange(@JsonProperty("type") String type,
+            @JsonProperty("targetPersonId") Integer targetPersonId, @JsonProperty("person") JsonAdaptedPerson person,
+            @JsonProperty("targetEvent") JsonAdaptedEvent targetEvent, @JsonProperty("event") JsonAdaptedEvent event) {
+        this.type = type;
+        this.targetPersonId = targetPersonId;
+        this.person = person;
+        this.targetEvent = targetEvent;
+        this.event = event;
+    }
+
+    /**
+     * Converts a given {@code AddressBookChange} into this class for Jackson use.
+     */
+    public JsonAdaptedAddressBookChange(AddressBookChange source) {
+        type = source.getType().name();
+        targetPersonId = source.getType() == Type.SET_PERSON || source.getType() == Type.REMOVE_PERSON
+                ? source.getTargetPersonId()
+                : null;
+        person = source.getPerson() == null ? null : new JsonAdaptedPerson(source.getPerson());
+        targetEvent = source.getTargetEvent() == null ? null : new JsonAdaptedEvent(source.getTargetEvent());
+        event = source.getEvent() == null ? null : new JsonAdaptedEvent(source.getEvent());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted change into the model's {@code AddressBookChange} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change.
+     */
+    public AddressBookChange toModelType() throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+        final Type modelType;
+        try {
+            modelType = Type.valueOf(type);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_TYPE, Arrays.toString(Type.values())));
+        }
+
+        switch (modelType) {
+        case ADD_PERSON:
+            return AddressBookChange.addPerson(requirePresent(person, "person").toModelType());
+        case SET_PERSON:
+            return AddressBookChange.setPerson(requirePresent(targetPersonId, "targetPersonId"),
+                    requirePresent(person, "person").toModelType());
+        case REMOVE_PERSON:
+            return AddressBookChange.removePerson(requirePresent(targetPersonId, "targetPersonId"));
+        case CLEAR_PERSONS:
+            return AddressBookChange.clearPersons();
+        case ADD_EVENT:
+            return AddressBookChange.addEvent(requirePresent(event, "event").toModelType());
+        case SET_EVENT:
+            return AddressBookChange.setEvent(requirePresent(targetEvent, "targetEvent").toModelType(),
+                    requirePresent(event, "event").toModelType());
+        case REMOVE_EVENT:
+            return AddressBookChange.removeEvent(requirePresent(targetEvent, "targetEvent").toModelType());
+        case CLEAR_EVENTS:
+            return AddressBookChange.clearEvents();
+        default:
+            throw new AssertionError("Unknown change type: " + modelType);
+        }
+    }
+
+    private static <T> T requirePresent(T field, String fieldName) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return field;
+    }
+}
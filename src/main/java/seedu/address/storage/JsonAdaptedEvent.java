@@ -1,7 +1,9 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -47,9 +49,9 @@ class JsonAdaptedEvent {
         name = source.getName().value;
         duration = source.getDuration().toString();
         description = source.getDescription().value;
-        attendance.addAll(source.getAttendance().asUnmodifiableList().stream()
+        attendance.addAll(source.getAttendance().asUnmodifiableSet().stream()
                 .map(JsonAdaptedPersonReference::new)
-                .collect(Collectors.toUnmodifiableSet()));
+                .collect(Collectors.toList()));
     }
 
     /**
@@ -58,6 +60,17 @@ class JsonAdaptedEvent {
      * @throws IllegalValueException if there were any data constraints violated in the adapted event.
      */
     public Event toModelType() throws IllegalValueException {
+        return toModelType(Collections.emptyMap());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted event object into the model's {@code Event} object.
+     *
+     * @param legacyIds ids of the persons in the address book, used to resolve attendance saved without ids.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted event.
+     * @see JsonAdaptedPersonReference#toModelType(Map)
+     */
+    public Event toModelType(Map<List<String>, Integer> legacyIds) throws IllegalValueException {
         if (name == null) {
             throw new IllegalValueException(String.format(
                 MISSING_FIELD_MESSAGE_FORMAT, EventName.class.getSimpleName()));
@@ -87,7 +100,7 @@ class JsonAdaptedEvent {
 
         List<PersonReference> modelList = new ArrayList<>();
         for (JsonAdaptedPersonReference pr : attendance) {
-            modelList.add(pr.toModelType());
+            modelList.add(pr.toModelType(legacyIds));
         }
         Attendance modelAttendance = new Attendance(modelList);
 
@@ -32,7 +32,9 @@ class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
     public static final String SIZE_LIMIT_EXCEEDED_FORMAT = "Person's %s count exceeds the maximum size of %d!";
+    public static final String MESSAGE_INVALID_ID = "Person's id should be between 0 and " + Person.MAX_ID + "!";
 
+    private final Integer id;
     private final String name;
     private final String phone;
     private final String email;
@@ -45,15 +47,18 @@ class JsonAdaptedPerson {
 
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
+     * A missing {@code id}, as in data files saved before persons had ids, is allocated when converting to the model.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
+    public JsonAdaptedPerson(@JsonProperty("id") Integer id,
+                             @JsonProperty("name") String name, @JsonProperty("phone") String phone,
                              @JsonProperty("email") String email, @JsonProperty("address") String address,
                              @JsonProperty("pin") Boolean pin,
                              @JsonProperty("emergencyContact") JsonAdaptedEmergencyContact emergencyContact,
                              @JsonProperty("enrollmentYear") String enrollmentYear,
                              @JsonProperty("roles") List<JsonAdaptedRole> roles,
                              @JsonProperty("tags") List<JsonAdaptedTag> tags) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -81,6 +86,7 @@ class JsonAdaptedPerson {
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
+        id = source.getId();
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -100,12 +106,22 @@ class JsonAdaptedPerson {
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Returns the id of the person, or null if the person has none yet.
+     */
+    Integer getId() {
+        return id;
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        if (id != null && !Person.isValidId(id)) {
+            throw new IllegalValueException(MESSAGE_INVALID_ID);
+        }
         final List<Role> personRoles = new ArrayList<>();
         for (JsonAdaptedRole role : roles) {
             personRoles.add(role.toModelType());
@@ -165,7 +181,11 @@ class JsonAdaptedPerson {
         final EnrollmentYear modelEnrollmentYear = new EnrollmentYear(enrollmentYear);
         final Set<Role> modelRoles = new HashSet<>(personRoles);
         final Set<Tag> modelTags = new HashSet<>(personTags);
-        return new Person(modelName, modelPhone, modelEmail, modelAddress, modelPin,
+        if (id == null) {
+            return new Person(modelName, modelPhone, modelEmail, modelAddress, modelPin,
+                    modelRoles, modelTags, modelEmergencyContact, modelEnrollmentYear);
+        }
+        return new Person(id, modelName, modelPhone, modelEmail, modelAddress, modelPin,
                 modelRoles, modelTags, modelEmergencyContact, modelEnrollmentYear);
     }
 
@@ -1,28 +1,38 @@
 package seedu.address.storage;
 
+import java.util.List;
+import java.util.Map;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.event.PersonReference;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 
 /**
  * Jackson-friendly version of {@link PersonReference}.
+ * Data files saved before persons had ids refer to persons by name and phone instead, which are still read.
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class JsonAdaptedPersonReference {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "PersonReference's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_PERSON = "PersonReference does not refer to any person: %s %s";
 
+    private final Integer id;
     private final String name;
     private final String phone;
 
-
     /**
-     * Constructs a {@code JsonAdaptedPersonReference} with the given event details.
+     * Constructs a {@code JsonAdaptedPersonReference} with the given reference details.
      */
     @JsonCreator
-    public JsonAdaptedPersonReference(@JsonProperty("name") String name, @JsonProperty("phone") String phone) {
+    public JsonAdaptedPersonReference(@JsonProperty("id") Integer id, @JsonProperty("name") String name,
+            @JsonProperty("phone") String phone) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
     }
@@ -31,16 +41,26 @@ public class JsonAdaptedPersonReference {
      * Converts a given {@code PersonReference} into this class for Jackson use.
      */
     public JsonAdaptedPersonReference(PersonReference source) {
-        name = source.getName().fullName;
-        phone = source.getPhone().value;
+        id = source.getId();
+        name = null;
+        phone = null;
     }
 
     /**
-     * Converts this Jackson-friendly adapted event object into the model's {@code PersonReference} object.
+     * Converts this Jackson-friendly adapted reference into the model's {@code PersonReference} object.
      *
-     * @throws IllegalValueException if there were any data constraints violated in the adapted event.
+     * @param legacyIds ids of the persons in the address book, keyed by {@link #legacyKey(Name, Phone)}, used to
+     *                  resolve references without an id.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted reference.
      */
-    public PersonReference toModelType() throws IllegalValueException {
+    public PersonReference toModelType(Map<List<String>, Integer> legacyIds) throws IllegalValueException {
+        if (id != null) {
+            if (!Person.isValidId(id)) {
+                throw new IllegalValueException(JsonAdaptedPerson.MESSAGE_INVALID_ID);
+            }
+            return new PersonReference(id);
+        }
+
         if (name == null) {
             throw new IllegalValueException(String.format(
                     MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
@@ -58,6 +78,18 @@ public class JsonAdaptedPersonReference {
             throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
         }
         final Phone modelPhone = new Phone(phone);
-        return new PersonReference(modelName, modelPhone);
+
+        Integer legacyId = legacyIds.get(legacyKey(modelName, modelPhone));
+        if (legacyId == null) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_PERSON, name, phone));
+        }
+        return new PersonReference(legacyId);
+    }
+
+    /**
+     * Returns the key that a reference without an id uses to refer to the person with {@code name} and {@code phone}.
+     */
+    public static List<String> legacyKey(Name name, Phone phone) {
+        return List.of(name.fullName, phone.value);
     }
 }
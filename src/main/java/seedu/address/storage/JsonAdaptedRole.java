@@ -49,7 +49,7 @@ class JsonAdaptedRole {
         }
         MessageCenter.appendEnd(Role.getStyleWarningMessage(roleName));
 
-        return new Role(roleName);
+        return Role.of(roleName);
     }
 
 }
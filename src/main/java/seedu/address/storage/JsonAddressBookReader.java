@@ -0,0 +1,155 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads an address book saved as a {@code JsonSerializableAddressBook} one person or event at a time, converting
+ * each into the model as soon as it is read, so that the saved data is never held in memory all at once.
+ * Persons saved without an id are converted after the other persons, so that they are not allocated an id that a
+ * later person in the file already has.
+ * Records are converted in batches on the common fork-join pool, but are added to the address book in the order they
+ * were saved, so the first invalid record in the file is the one reported, as when converting them one at a time.
+ */
+class JsonAddressBookReader {
+    private static final String PERSONS_FIELD = "persons";
+    private static final String EVENTS_FIELD = "events";
+    private static final String SNAPSHOT_ID_FIELD = "snapshotId";
+    private static final int BATCH_SIZE = 1024;
+
+    private final AddressBookAssembler assembler = new AddressBookAssembler();
+    private final List<JsonAdaptedPerson> personBatch = new ArrayList<>();
+    private final List<JsonAdaptedPerson> personsWithoutId = new ArrayList<>();
+    private final List<JsonAdaptedEvent> eventBatch = new ArrayList<>();
+    private final List<JsonAdaptedEvent> eventsBeforePersons = new ArrayList<>();
+    private boolean hasReadPersons;
+    private boolean hasReadEvents;
+    private String snapshotId;
+
+    /**
+     * Reads the address book saved in {@code filePath}, decompressing it first if it was saved compressed.
+     *
+     * @throws IOException if the file could not be read or does not contain a saved address book.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(JsonAddressBookStorage.openDataFile(filePath))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an address book object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                switch (field) {
+
+                case PERSONS_FIELD:
+                    readPersons(parser);
+                    break;
+
+                case EVENTS_FIELD:
+                    readEvents(parser);
+                    break;
+
+                case SNAPSHOT_ID_FIELD:
+                    snapshotId = parser.getValueAsString();
+                    break;
+
+                default:
+                    parser.skipChildren();
+                }
+            }
+            if (!hasReadPersons || !hasReadEvents) {
+                throw new JsonParseException(parser, "Expected both persons and events in the address book");
+            }
+        }
+        return assembler.build();
+    }
+
+    /**
+     * Returns the id of the snapshot read, or null if it was saved without one.
+     */
+    public String getSnapshotId() {
+        return snapshotId;
+    }
+
+    private void readPersons(JsonParser parser) throws IOException, IllegalValueException {
+        requireArray(parser, PERSONS_FIELD);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            JsonAdaptedPerson person = parser.readValueAs(JsonAdaptedPerson.class);
+            if (person.getId() == null) {
+                personsWithoutId.add(person);
+                continue;
+            }
+            personBatch.add(person);
+            if (personBatch.size() == BATCH_SIZE) {
+                addPersons(personBatch, true);
+            }
+        }
+        addPersons(personBatch, true);
+        // Allocates ids to persons saved without one in the order they were saved.
+        addPersons(personsWithoutId, false);
+        hasReadPersons = true;
+
+        // Events can only refer to persons saved without an id once all persons are known.
+        addEvents(eventsBeforePersons);
+    }
+
+    private void readEvents(JsonParser parser) throws IOException, IllegalValueException {
+        requireArray(parser, EVENTS_FIELD);
+        List<JsonAdaptedEvent> events = hasReadPersons ? eventBatch : eventsBeforePersons;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            events.add(parser.readValueAs(JsonAdaptedEvent.class));
+            if (hasReadPersons && events.size() == BATCH_SIZE) {
+                addEvents(events);
+            }
+        }
+        if (hasReadPersons) {
+            addEvents(events);
+        }
+        hasReadEvents = true;
+    }
+
+    /**
+     * Converts {@code persons}, in parallel if {@code isParallel}, adds them in order and clears {@code persons}.
+     */
+    private void addPersons(List<JsonAdaptedPerson> persons, boolean isParallel) throws IllegalValueException {
+        List<Conversion<Person>> conversions =
+                Conversion.convertAll(persons, JsonAdaptedPerson::toModelType, isParallel);
+        for (Conversion<Person> conversion : conversions) {
+            assembler.addPerson(conversion.getResult());
+        }
+        persons.clear();
+    }
+
+    /**
+     * Converts {@code events} in parallel, adds them in order and clears {@code events}.
+     */
+    private void addEvents(List<JsonAdaptedEvent> events) throws IllegalValueException {
+        Map<List<String>, Integer> legacyIds = assembler.getLegacyIds();
+        List<Conversion<Event>> conversions =
+                Conversion.convertAll(events, event -> event.toModelType(legacyIds), true);
+        for (Conversion<Event> conversion : conversions) {
+            assembler.addEvent(conversion.getResult());
+        }
+        events.clear();
+    }
+
+    private static void requireArray(JsonParser parser, String field) throws JsonParseException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected an array of " + field);
+        }
+    }
+}
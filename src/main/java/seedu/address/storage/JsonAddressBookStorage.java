@@ -1,30 +1,71 @@
 package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.logging.Logger;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageFormat;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * Once an address book has been saved, saving it again only appends the changes made to it since to an
+ * {@code AddressBookJournal} next to the file, until the journal is long enough to be compacted into a new snapshot.
+ * The file is read one person or event at a time with a {@code JsonAddressBookReader}. A binary snapshot saved by
+ * {@code BinaryAddressBookStorage} is read as one instead, and saved as JSON from then on.
+ * Snapshots can be saved compressed with GZIP, which is recognised by its magic bytes when the file is read, so plain
+ * and compressed files are read alike. The journal is never compressed, as it is appended to.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    public static final int MAX_JOURNAL_CHANGES = 100;
+
+    private static final int GZIP_MAGIC_LENGTH = 2;
+    private static final int BUFFER_SIZE = 1 << 16;
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final int compressionLevel;
+
+    private ReadOnlyAddressBook savedAddressBook;
+    private Path savedFilePath;
+    private long savedVersion;
+    private int journalChangeCount;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, Deflater.NO_COMPRESSION);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that saves snapshots to {@code filePath} compressed with
+     * {@code compressionLevel}, or as plain JSON if it is {@code Deflater.NO_COMPRESSION}.
+     */
+    public JsonAddressBookStorage(Path filePath, int compressionLevel) {
+        checkArgument(UserPrefs.isValidCompressionLevel(compressionLevel),
+                UserPrefs.MESSAGE_COMPRESSION_LEVEL_CONSTRAINTS);
         this.filePath = filePath;
+        this.compressionLevel = compressionLevel;
     }
 
     public Path getAddressBookFilePath() {
@@ -44,19 +85,46 @@ public class JsonAddressBookStorage implements AddressBookStorage {
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
+        if (Files.isDirectory(filePath)) {
+            logger.info(filePath + " is a sharded directory, reading it as " + StorageFormat.SHARDED);
+            return new ShardedAddressBookStorage(filePath).readAddressBook(filePath);
+        }
+        return new CheckedDataFile(filePath).read(generationPath -> readGeneration(generationPath, filePath));
+    }
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
+    /**
+     * Reads the address book in one generation of the {@code CheckedDataFile} at {@code dataFilePath}, without
+     * checking its checksum, along with the journal of the data file if it was started for that generation.
+     */
+    static Optional<ReadOnlyAddressBook> readGeneration(Path filePath, Path dataFilePath)
+            throws DataLoadingException {
+        if (Files.isDirectory(filePath)) {
+            logger.info(filePath + " is a sharded directory, reading it as " + StorageFormat.SHARDED);
+            return new ShardedAddressBookStorage(filePath).readAddressBook(filePath);
+        }
+        if (isBinarySnapshot(filePath)) {
+            logger.info(filePath + " is a binary snapshot, reading it as " + StorageFormat.BINARY);
+            return BinaryAddressBookStorage.readGeneration(filePath, dataFilePath);
         }
+        logger.info("JSON file " + filePath + " found.");
 
+        JsonAddressBookReader reader = new JsonAddressBookReader();
+        AddressBook addressBook;
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            addressBook = reader.read(filePath);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
+
+        int changeCount = new AddressBookJournal(dataFilePath).replay(addressBook, reader.getSnapshotId());
+        if (changeCount > 0) {
+            logger.info("Replayed " + changeCount + " changes from the journal of " + filePath);
+        }
+        return Optional.of(addressBook);
     }
 
     @Override
@@ -73,8 +141,117 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        if (sourceOf(addressBook) == savedAddressBook && filePath.equals(savedFilePath)) {
+            Optional<List<AddressBookChange>> changes = addressBook.getChangesSince(savedVersion);
+            if (changes.isPresent() && journalChangeCount + changes.get().size() <= MAX_JOURNAL_CHANGES) {
+                appendToJournal(changes.get(), addressBook.getVersion());
+                return;
+            }
+        }
+        saveSnapshot(addressBook, filePath);
+    }
+
+    private void appendToJournal(List<AddressBookChange> changes, long version) throws IOException {
+        if (changes.isEmpty()) {
+            return;
+        }
+        try {
+            new AddressBookJournal(savedFilePath).append(changes);
+        } catch (IOException e) {
+            // Part of the changes may have been appended, so the journal cannot be appended to safely anymore.
+            savedAddressBook = null;
+            throw e;
+        }
+        savedVersion = version;
+        journalChangeCount += changes.size();
+    }
+
+    /**
+     * Saves all of {@code addressBook} to {@code filePath}, and starts a new journal for it.
+     */
+    private void saveSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        savedAddressBook = null;
+        String snapshotId = UUID.randomUUID().toString();
+        new CheckedDataFile(filePath).save(out ->
+                new JsonAddressBookWriter(compress(out)).write(addressBook, snapshotId));
+        new AddressBookJournal(filePath).start(snapshotId);
+
+        savedAddressBook = sourceOf(addressBook);
+        savedFilePath = filePath;
+        savedVersion = addressBook.getVersion();
+        journalChangeCount = 0;
+    }
+
+    private OutputStream compress(OutputStream out) throws IOException {
+        if (compressionLevel == Deflater.NO_COMPRESSION) {
+            return out;
+        }
+        return new LeveledGzipOutputStream(out, compressionLevel);
+    }
+
+    /**
+     * Opens the data file at {@code filePath} for reading, decompressing it as it is read if it was saved compressed.
+     */
+    static InputStream openDataFile(Path filePath) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE);
+        try {
+            return isCompressed(in) ? new GZIPInputStream(in, BUFFER_SIZE) : in;
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns true if the data file at {@code filePath} was saved compressed.
+     *
+     * @throws IOException if the file could not be read.
+     */
+    public static boolean isCompressed(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            return isCompressed(in);
+        }
+    }
+
+    /**
+     * Returns true if {@code in} starts with the GZIP magic bytes, without consuming them.
+     */
+    private static boolean isCompressed(InputStream in) throws IOException {
+        in.mark(GZIP_MAGIC_LENGTH);
+        int first = in.read();
+        int second = in.read();
+        in.reset();
+        return first != -1 && second != -1 && (first | (second << 8)) == GZIPInputStream.GZIP_MAGIC;
+    }
+
+    private static boolean isBinarySnapshot(Path filePath) throws DataLoadingException {
+        try {
+            return BinaryAddressBookStorage.isBinarySnapshot(filePath);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Returns the address book whose changes {@code addressBook} records, which is the address book a snapshot was
+     * captured from.
+     */
+    static ReadOnlyAddressBook sourceOf(ReadOnlyAddressBook addressBook) {
+        if (addressBook instanceof AddressBookSnapshot) {
+            return ((AddressBookSnapshot) addressBook).getSource();
+        }
+        return addressBook;
     }
 
+    /**
+     * A {@code GZIPOutputStream} that compresses with a given compression level rather than the default one.
+     */
+    private static class LeveledGzipOutputStream extends GZIPOutputStream {
+        LeveledGzipOutputStream(OutputStream out, int compressionLevel) throws IOException {
+            super(out, BUFFER_SIZE);
+            def.setLevel(compressionLevel);
+        }
+    }
 }
@@ -0,0 +1,173 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.PersonReference;
+import seedu.address.model.person.EmergencyContact;
+import seedu.address.model.person.Person;
+import seedu.address.model.role.Role;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes an address book in the same JSON, byte for byte, that Jackson writes for a
+ * {@code JsonSerializableAddressBook}, one person or event at a time straight from the model, without converting it
+ * into a {@code JsonSerializableAddressBook} first.
+ * The fields are written in the order Jackson writes the fields of the {@code JsonAdapted} classes, which are still
+ * used to read the address book back, so a field added to them must be written here too.
+ */
+class JsonAddressBookWriter {
+    static final String PERSONS_FIELD = "persons";
+    static final String EVENTS_FIELD = "events";
+    static final String ORDER_KEYS_FIELD = "orderKeys";
+    private static final String SNAPSHOT_ID_FIELD = "snapshotId";
+
+    private final JsonGenerator generator;
+
+    /**
+     * Creates a writer that writes to {@code out}, which is closed once the address book has been written.
+     */
+    JsonAddressBookWriter(OutputStream out) throws IOException {
+        requireNonNull(out);
+        generator = JsonUtil.createGenerator(out);
+    }
+
+    /**
+     * Writes {@code addressBook}, as the snapshot with {@code snapshotId} if it is not null, and closes the stream.
+     */
+    void write(ReadOnlyAddressBook addressBook, String snapshotId) throws IOException {
+        requireNonNull(addressBook);
+        try {
+            generator.writeStartObject();
+            writePersons(addressBook.getPersonList());
+            writeEvents(addressBook.getEventList());
+            if (snapshotId != null) {
+                generator.writeStringField(SNAPSHOT_ID_FIELD, snapshotId);
+            }
+            generator.writeEndObject();
+        } finally {
+            generator.close();
+        }
+    }
+
+    /**
+     * Writes an address book holding only {@code persons}, without its events field, followed by the order key of each
+     * person in {@code orderKeys}, and closes the stream.
+     */
+    void writePersonShard(List<Person> persons, List<Long> orderKeys) throws IOException {
+        requireNonNull(persons);
+        requireNonNull(orderKeys);
+        try {
+            generator.writeStartObject();
+            writePersons(persons);
+            writeOrderKeys(orderKeys);
+            generator.writeEndObject();
+        } finally {
+            generator.close();
+        }
+    }
+
+    /**
+     * Writes an address book holding only {@code events}, without its persons field, followed by the order key of each
+     * event in {@code orderKeys}, and closes the stream.
+     */
+    void writeEventShard(List<Event> events, List<Long> orderKeys) throws IOException {
+        requireNonNull(events);
+        requireNonNull(orderKeys);
+        try {
+            generator.writeStartObject();
+            writeEvents(events);
+            writeOrderKeys(orderKeys);
+            generator.writeEndObject();
+        } finally {
+            generator.close();
+        }
+    }
+
+    private void writeOrderKeys(List<Long> orderKeys) throws IOException {
+        generator.writeArrayFieldStart(ORDER_KEYS_FIELD);
+        for (long orderKey : orderKeys) {
+            generator.writeNumber(orderKey);
+        }
+        generator.writeEndArray();
+    }
+
+    private void writePersons(List<Person> persons) throws IOException {
+        generator.writeArrayFieldStart(PERSONS_FIELD);
+        for (Person person : persons) {
+            writePerson(person);
+        }
+        generator.writeEndArray();
+    }
+
+    private void writeEvents(List<Event> events) throws IOException {
+        generator.writeArrayFieldStart(EVENTS_FIELD);
+        for (Event event : events) {
+            writeEvent(event);
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Writes {@code person} as Jackson writes a {@code JsonAdaptedPerson}.
+     */
+    private void writePerson(Person person) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", person.getId());
+        generator.writeStringField("name", person.getName().fullName);
+        generator.writeStringField("phone", person.getPhone().value);
+        generator.writeStringField("email", person.getEmail().value);
+        generator.writeStringField("address", person.getAddress().value);
+        generator.writeBooleanField("pin", person.getPin().value);
+
+        EmergencyContact emergencyContact = person.getEmergencyContact();
+        generator.writeObjectFieldStart("emergencyContact");
+        if (emergencyContact.isPresent()) {
+            generator.writeStringField("name", emergencyContact.name.fullName);
+            generator.writeStringField("phone", emergencyContact.phone.value);
+        } else {
+            generator.writeNullField("name");
+            generator.writeNullField("phone");
+        }
+        generator.writeEndObject();
+
+        generator.writeStringField("enrollmentYear", person.getEnrollmentYear().toString());
+        generator.writeArrayFieldStart("roles");
+        for (Role role : person.getRoles()) {
+            generator.writeString(role.roleName);
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("tags");
+        for (Tag tag : person.getTags()) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes {@code event} as Jackson writes a {@code JsonAdaptedEvent}.
+     */
+    private void writeEvent(Event event) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", event.getName().value);
+        generator.writeStringField("duration", event.getDuration().toString());
+        generator.writeStringField("description", event.getDescription().value);
+        generator.writeArrayFieldStart("attendance");
+        for (PersonReference reference : event.getAttendance().asUnmodifiableSet()) {
+            generator.writeStartObject();
+            generator.writeNumberField("id", reference.getId());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+}
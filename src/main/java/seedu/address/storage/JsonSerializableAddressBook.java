@@ -5,35 +5,39 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
  */
 @JsonRootName(value = "addressbook")
+@JsonInclude(JsonInclude.Include.NON_NULL)
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
     public static final String MESSAGE_DUPLICATE_EVENT = "Events list contains duplicate event(s).";
+    public static final String MESSAGE_DUPLICATE_PERSON_ID = "Persons list contains duplicate person id(s).";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedEvent> events = new ArrayList<>();
+    private final String snapshotId;
 
     /**
      * Constructs a {@code JsonSerializableAddressBook} with the given persons.
      */
     @JsonCreator
     public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
-            @JsonProperty("events") List<JsonAdaptedEvent> events) {
+            @JsonProperty("events") List<JsonAdaptedEvent> events, @JsonProperty("snapshotId") String snapshotId) {
         this.persons.addAll(persons);
         this.events.addAll(events);
+        this.snapshotId = snapshotId;
     }
 
     /**
@@ -42,8 +46,26 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
+        this(source, null);
+    }
+
+    /**
+     * Converts a given {@code ReadOnlyAddressBook} into this class for Jackson use, as the snapshot with
+     * {@code snapshotId} that an {@code AddressBookJournal} can be started for.
+     *
+     * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
+     */
+    public JsonSerializableAddressBook(ReadOnlyAddressBook source, String snapshotId) {
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
         events.addAll(source.getEventList().stream().map(JsonAdaptedEvent::new).collect(Collectors.toList()));
+        this.snapshotId = snapshotId;
+    }
+
+    /**
+     * Returns the id of this snapshot, or null if it was saved without one.
+     */
+    public String getSnapshotId() {
+        return snapshotId;
     }
 
     /**
@@ -52,22 +74,22 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        // Persons saved without an id must not be allocated an id that a later person in the file already has.
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            // Invalid ids are rejected when the person is converted below.
+            if (jsonAdaptedPerson.getId() != null && Person.isValidId(jsonAdaptedPerson.getId())) {
+                Person.reserveId(jsonAdaptedPerson.getId());
             }
-            addressBook.addPerson(person);
+        }
+
+        AddressBookAssembler assembler = new AddressBookAssembler();
+        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
+            assembler.addPerson(jsonAdaptedPerson.toModelType());
         }
         for (JsonAdaptedEvent jsonAdaptedEvent : events) {
-            Event event = jsonAdaptedEvent.toModelType();
-            if (addressBook.hasEvent(event)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
-            }
-            addressBook.addEvent(event);
+            assembler.addEvent(jsonAdaptedEvent.toModelType(assembler.getLegacyIds()));
         }
-        return addressBook;
+        return assembler.build();
     }
 
 }
@@ -0,0 +1,52 @@
+package seedu.address.storage;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly manifest of an address book saved by {@code ShardedAddressBookStorage}, naming the shard file
+ * that holds each group of persons and events.
+ * The manifest only grows with the number of shards, not with the number of persons and events, as it is written on
+ * every save.
+ */
+class JsonShardManifest {
+    public static final int FORMAT_VERSION = 1;
+
+    private final int formatVersion;
+    private final Map<String, String> personShards = new TreeMap<>();
+    private final Map<String, String> eventShards = new TreeMap<>();
+
+    /**
+     * Constructs a {@code JsonShardManifest} with the given shards.
+     *
+     * @param personShards the file name of each persons shard, keyed by the shard key.
+     * @param eventShards the file name of each events shard, keyed by the shard key.
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty("formatVersion") Integer formatVersion,
+            @JsonProperty("personShards") Map<String, String> personShards,
+            @JsonProperty("eventShards") Map<String, String> eventShards) {
+        this.formatVersion = formatVersion != null ? formatVersion : FORMAT_VERSION;
+        if (personShards != null) {
+            this.personShards.putAll(personShards);
+        }
+        if (eventShards != null) {
+            this.eventShards.putAll(eventShards);
+        }
+    }
+
+    public int getFormatVersion() {
+        return formatVersion;
+    }
+
+    public Map<String, String> getPersonShards() {
+        return personShards;
+    }
+
+    public Map<String, String> getEventShards() {
+        return eventShards;
+    }
+}
@@ -3,7 +3,11 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.Deflater;
 
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageFormat;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -14,6 +18,8 @@ import seedu.address.model.UserPrefs;
  */
 public class JsonUserPrefsStorage implements UserPrefsStorage {
 
+    private static final Logger logger = LogsCenter.getLogger(JsonUserPrefsStorage.class);
+
     private Path filePath;
 
     public JsonUserPrefsStorage(Path filePath) {
@@ -31,12 +37,29 @@ public class JsonUserPrefsStorage implements UserPrefsStorage {
     }
 
     /**
-     * Similar to {@link #readUserPrefs()}
+     * Similar to {@link #readUserPrefs()}.
+     * Prefs that are read without their setters, such as an address book format of {@code null} or a compression level
+     * that is out of range, are replaced with their default values.
      * @param prefsFilePath location of the data. Cannot be null.
      * @throws DataLoadingException if the file format is not as expected.
      */
     public Optional<UserPrefs> readUserPrefs(Path prefsFilePath) throws DataLoadingException {
-        return JsonUtil.readJsonFile(prefsFilePath, UserPrefs.class);
+        Optional<UserPrefs> userPrefs = JsonUtil.readJsonFile(prefsFilePath, UserPrefs.class);
+        userPrefs.ifPresent(JsonUserPrefsStorage::replaceInvalidPrefs);
+        return userPrefs;
+    }
+
+    private static void replaceInvalidPrefs(UserPrefs userPrefs) {
+        if (userPrefs.getAddressBookFormat() == null) {
+            logger.warning("Missing address book format, using " + StorageFormat.JSON);
+            userPrefs.setAddressBookFormat(StorageFormat.JSON);
+        }
+        int compressionLevel = userPrefs.getAddressBookCompressionLevel();
+        if (!UserPrefs.isValidCompressionLevel(compressionLevel)) {
+            logger.warning("Invalid address book compression level " + compressionLevel
+                    + ", saving the address book without compression");
+            userPrefs.setAddressBookCompressionLevel(Deflater.NO_COMPRESSION);
+        }
     }
 
     @Override
@@ -0,0 +1,103 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Assigns the items of a list order keys that increase along the list, so that the list can be saved in shards and
+ * put back in order when it is read.
+ * The keys the items had before are kept for the longest run of items still in the same order, and the other items
+ * get keys between the kept ones, so that adding, moving or removing an item only changes the keys of the items moved.
+ * New keys are spaced {@link #KEY_GAP} apart, and every item is given a new key only when there is no room left
+ * between two kept keys.
+ */
+final class OrderKeys {
+    static final long KEY_GAP = 1L << 20;
+
+    private OrderKeys() {}
+
+    /**
+     * Returns the order key of each of {@code items}, keeping their {@code previousKeys} where possible.
+     */
+    static <T> List<Long> assign(List<T> items, Map<T, Long> previousKeys) {
+        requireNonNull(items);
+        requireNonNull(previousKeys);
+        int size = items.size();
+        Long[] previous = new Long[size];
+        for (int i = 0; i < size; i++) {
+            previous[i] = previousKeys.get(items.get(i));
+        }
+        boolean[] isKept = findLongestIncreasingRun(previous);
+
+        List<Long> keys = new ArrayList<>(size);
+        long low = 0;
+        int start = 0;
+        while (start < size) {
+            if (isKept[start]) {
+                low = previous[start];
+                keys.add(low);
+                start++;
+                continue;
+            }
+            int end = start;
+            while (end < size && !isKept[end]) {
+                end++;
+            }
+            int count = end - start;
+            long step = end == size ? KEY_GAP : (previous[end] - low) / (count + 1);
+            if (step == 0) {
+                return renumber(size);
+            }
+            for (int i = 1; i <= count; i++) {
+                keys.add(low + step * i);
+            }
+            start = end;
+        }
+        return keys;
+    }
+
+    private static List<Long> renumber(int size) {
+        List<Long> keys = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            keys.add(KEY_GAP * i);
+        }
+        return keys;
+    }
+
+    /**
+     * Returns which of {@code keys} make up the longest strictly increasing run of them, skipping the null ones.
+     */
+    private static boolean[] findLongestIncreasingRun(Long[] keys) {
+        // runEnds[length - 1] is the index of the smallest key that ends an increasing run of that length.
+        int[] runEnds = new int[keys.length];
+        int[] predecessors = new int[keys.length];
+        int longest = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == null) {
+                continue;
+            }
+            int low = 0;
+            int high = longest;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (keys[runEnds[middle]] < keys[i]) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            predecessors[i] = low > 0 ? runEnds[low - 1] : -1;
+            runEnds[low] = i;
+            longest = Math.max(longest, low + 1);
+        }
+
+        boolean[] isKept = new boolean[keys.length];
+        for (int i = longest > 0 ? runEnds[longest - 1] : -1; i >= 0; i = predecessors[i]) {
+            isKept[i] = true;
+        }
+        return isKept;
+    }
+}
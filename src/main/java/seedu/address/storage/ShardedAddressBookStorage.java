@@ -0,0 +1,571 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.PersonReference;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a directory of JSON shards on the hard disk.
+ * Persons are split into one shard per enrollment year and events into one shard per calendar year of their start
+ * date, and a manifest names the shard files. Each shard also holds the {@code OrderKeys} of its persons or events,
+ * which put them back in order across the shards when they are read, so the manifest does not grow with them.
+ * Once an address book has been saved, saving it again only rewrites the shards holding the persons and events
+ * changed or moved since, which are written to new files so that the manifest, written last, always names a complete
+ * set of shards. The shards named by the previous generation of the manifest are kept for it to fall back on.
+ * The shards are read in parallel. A single data file saved in any other format is read as one, which imports it.
+ * The first save after an import writes the shards to a temporary directory, which only replaces the data file once
+ * it is complete, and keeps the data file as its previous generation, which is read if the directory has no manifest.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "The manifest has unsupported format version %d.";
+
+    private static final String PERSONS_SHARD_PREFIX = "persons";
+    private static final String EVENTS_SHARD_PREFIX = "events";
+    private static final String NO_ENROLLMENT_YEAR_KEY = "none";
+    private static final String IMPORT_DIRECTORY_EXTENSION = ".tmp-dir";
+    private static final Pattern SHARD_FILE_NAME = Pattern.compile("(persons|events)-(\\w+)-(\\d+)\\.json");
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private Path filePath;
+
+    private ReadOnlyAddressBook savedAddressBook;
+    private Path savedFilePath;
+    private long savedVersion;
+    private JsonShardManifest savedManifest;
+    private Map<Integer, String> savedPersonKeys;
+    private Map<Integer, Set<String>> savedAttendedKeys;
+    private Map<Integer, Long> savedPersonOrderKeys;
+    private Map<Event, Long> savedEventOrderKeys;
+    /** The order keys in each shard saved, keyed as {@link #personsKey} and {@link #eventsKey} give them. */
+    private Map<String, List<Long>> savedShardOrderKeys;
+
+    public ShardedAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data directory. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (Files.isRegularFile(filePath)) {
+            logger.info(filePath + " is a single data file, importing it");
+            return new JsonAddressBookStorage(filePath).readAddressBook(filePath);
+        }
+        Path importedPath = new CheckedDataFile(filePath).getPreviousGenerationPath();
+        if (!hasManifest(filePath) && Files.isRegularFile(importedPath)) {
+            // An import was cut short after the data file was moved to its previous generation.
+            logger.warning(filePath + " has no manifest, reading the data file imported into it instead");
+            CheckedDataFile.verify(importedPath);
+            return JsonAddressBookStorage.readGeneration(importedPath, filePath);
+        }
+        return new CheckedDataFile(filePath.resolve(MANIFEST_FILE_NAME))
+                .read(manifestPath -> readShards(filePath, manifestPath));
+    }
+
+    private static boolean hasManifest(Path directory) {
+        CheckedDataFile manifestFile = new CheckedDataFile(directory.resolve(MANIFEST_FILE_NAME));
+        return Files.exists(directory.resolve(MANIFEST_FILE_NAME))
+                || Files.exists(manifestFile.getPreviousGenerationPath());
+    }
+
+    /**
+     * Reads the address book from the shards named by the manifest at {@code manifestPath}.
+     */
+    private static Optional<ReadOnlyAddressBook> readShards(Path directory, Path manifestPath)
+            throws DataLoadingException {
+        JsonShardManifest manifest = readManifest(manifestPath);
+        logger.info("Reading " + manifest.getPersonShards().size() + " persons shards and "
+                + manifest.getEventShards().size() + " events shards from " + directory);
+
+        // All the shards are read at once, before any of their records are converted.
+        Map<String, CompletableFuture<Shard<JsonAdaptedPerson>>> personShards = startReadingShards(directory,
+                manifest.getPersonShards(), JsonAddressBookWriter.PERSONS_FIELD, JsonAdaptedPerson.class);
+        Map<String, CompletableFuture<Shard<JsonAdaptedEvent>>> eventShards = startReadingShards(directory,
+                manifest.getEventShards(), JsonAddressBookWriter.EVENTS_FIELD, JsonAdaptedEvent.class);
+
+        try {
+            AddressBookAssembler assembler = new AddressBookAssembler();
+            List<JsonAdaptedPerson> persons = orderRecords(awaitShards(personShards));
+            List<JsonAdaptedPerson> personsWithId = persons.stream().filter(person -> person.getId() != null).toList();
+            List<JsonAdaptedPerson> personsWithoutId =
+                    persons.stream().filter(person -> person.getId() == null).toList();
+            for (Conversion<Person> conversion
+                    : Conversion.convertAll(personsWithId, JsonAdaptedPerson::toModelType, true)) {
+                assembler.addPerson(conversion.getResult());
+            }
+            // Allocates ids to persons saved without one, such as by editing a shard, after all the saved ids.
+            for (Conversion<Person> conversion
+                    : Conversion.convertAll(personsWithoutId, JsonAdaptedPerson::toModelType, false)) {
+                assembler.addPerson(conversion.getResult());
+            }
+
+            List<JsonAdaptedEvent> events = orderRecords(awaitShards(eventShards));
+            Map<List<String>, Integer> legacyIds = assembler.getLegacyIds();
+            for (Conversion<Event> conversion
+                    : Conversion.convertAll(events, event -> event.toModelType(legacyIds), true)) {
+                assembler.addEvent(conversion.getResult());
+            }
+            return Optional.of(assembler.build());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in the shards of " + directory + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    private static JsonShardManifest readManifest(Path manifestPath) throws DataLoadingException {
+        Optional<JsonShardManifest> manifest = JsonUtil.readJsonFile(manifestPath, JsonShardManifest.class);
+        if (manifest.isEmpty()) {
+            throw new DataLoadingException(new IOException(manifestPath + " is missing"));
+        }
+        if (manifest.get().getFormatVersion() > JsonShardManifest.FORMAT_VERSION) {
+            throw new DataLoadingException(new IOException(
+                    String.format(MESSAGE_UNSUPPORTED_VERSION, manifest.get().getFormatVersion())));
+        }
+        return manifest.get();
+    }
+
+    /**
+     * Starts reading each of {@code shards}, keyed by shard key, on the common fork-join pool.
+     */
+    private static <T> Map<String, CompletableFuture<Shard<T>>> startReadingShards(Path directory,
+            Map<String, String> shards, String field, Class<T> recordClass) {
+        Map<String, CompletableFuture<Shard<T>>> futures = new TreeMap<>();
+        shards.forEach((key, fileName) -> futures.put(key, CompletableFuture.supplyAsync(() -> {
+            try {
+                return readShard(directory.resolve(fileName), field, recordClass);
+            } catch (DataLoadingException e) {
+                throw new CompletionException(e);
+            }
+        })));
+        return futures;
+    }
+
+    private static <T> Map<String, Shard<T>> awaitShards(Map<String, CompletableFuture<Shard<T>>> futures)
+            throws DataLoadingException {
+        Map<String, Shard<T>> shards = new TreeMap<>();
+        for (Map.Entry<String, CompletableFuture<Shard<T>>> entry : futures.entrySet()) {
+            try {
+                shards.put(entry.getKey(), entry.getValue().join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof DataLoadingException) {
+                    throw (DataLoadingException) e.getCause();
+                }
+                throw e;
+            }
+        }
+        return shards;
+    }
+
+    /**
+     * Reads the records in the {@code field} array of the shard at {@code shardPath}, and their order keys.
+     */
+    private static <T> Shard<T> readShard(Path shardPath, String field, Class<T> recordClass)
+            throws DataLoadingException {
+        CheckedDataFile.verify(shardPath);
+        Shard<T> shard = new Shard<>();
+        boolean hasReadRecords = false;
+        try (JsonParser parser = JsonUtil.createParser(JsonAddressBookStorage.openDataFile(shardPath))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a shard object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String currentField = parser.getCurrentName();
+                parser.nextToken();
+                if (currentField.equals(JsonAddressBookWriter.ORDER_KEYS_FIELD)) {
+                    readArray(parser, currentField, shard.orderKeys, Long.class);
+                    continue;
+                }
+                if (!currentField.equals(field)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                readArray(parser, currentField, shard.records, recordClass);
+                hasReadRecords = true;
+            }
+            if (!hasReadRecords) {
+                throw new JsonParseException(parser, "Expected " + field + " in the shard");
+            }
+            if (shard.orderKeys.size() != shard.records.size()) {
+                throw new JsonParseException(parser, "Expected an order key for each of the " + field);
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from shard " + shardPath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        return shard;
+    }
+
+    private static <T> void readArray(JsonParser parser, String field, List<T> values, Class<T> valueClass)
+            throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected an array of " + field);
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            values.add(parser.readValueAs(valueClass));
+        }
+    }
+
+    /**
+     * Returns the records of {@code shards} in the order of their order keys.
+     */
+    private static <T> List<T> orderRecords(Map<String, Shard<T>> shards) {
+        List<Map.Entry<Long, T>> keyedRecords = new ArrayList<>();
+        for (Shard<T> shard : shards.values()) {
+            for (int i = 0; i < shard.records.size(); i++) {
+                keyedRecords.add(Map.entry(shard.orderKeys.get(i), shard.records.get(i)));
+            }
+        }
+        keyedRecords.sort(Map.Entry.comparingByKey());
+
+        List<T> records = new ArrayList<>();
+        keyedRecords.forEach(entry -> records.add(entry.getValue()));
+        return records;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data directory. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        JsonShardManifest previousManifest = null;
+        Set<String> dirtyKeys = null;
+        if (JsonAddressBookStorage.sourceOf(addressBook) == savedAddressBook && filePath.equals(savedFilePath)) {
+            previousManifest = savedManifest;
+            dirtyKeys = addressBook.getChangesSince(savedVersion).map(this::findDirtyKeys).orElse(null);
+        }
+        savedAddressBook = null;
+
+        if (Files.isRegularFile(filePath)) {
+            importDataFile(addressBook, filePath);
+        } else {
+            saveShards(addressBook, filePath, previousManifest, dirtyKeys);
+        }
+
+        savedAddressBook = JsonAddressBookStorage.sourceOf(addressBook);
+        savedFilePath = filePath;
+        savedVersion = addressBook.getVersion();
+    }
+
+    /**
+     * Saves {@code addressBook} as a directory of shards in place of the single data file at {@code filePath},
+     * keeping the data file as its previous generation.
+     * The shards are written to a temporary directory next to the data file, which is only moved into its place once
+     * it is complete, so that a crash while importing always leaves the data file to be read again.
+     */
+    private void importDataFile(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        Path importPath = filePath.resolveSibling(filePath.getFileName() + IMPORT_DIRECTORY_EXTENSION);
+        FileUtil.deleteRecursively(importPath);
+        saveShards(addressBook, importPath, null, null);
+
+        CheckedDataFile dataFile = new CheckedDataFile(filePath);
+        Path previousPath = dataFile.getPreviousGenerationPath();
+        dataFile.deletePreviousGeneration();
+        if (Files.exists(CheckedDataFile.getChecksumPath(filePath))) {
+            Files.move(CheckedDataFile.getChecksumPath(filePath), CheckedDataFile.getChecksumPath(previousPath),
+                    StandardCopyOption.ATOMIC_MOVE);
+        }
+        Files.move(filePath, previousPath, StandardCopyOption.ATOMIC_MOVE);
+        Files.move(importPath, filePath, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Saves {@code addressBook} as shards in {@code directory}, rewriting only the shards of {@code dirtyKeys} if they
+     * are known, and the manifest that names them.
+     */
+    private void saveShards(ReadOnlyAddressBook addressBook, Path directory, JsonShardManifest previousManifest,
+            Set<String> dirtyKeys) throws IOException {
+        Files.createDirectories(directory);
+        List<Path> existingShards = listShards(directory);
+        if (previousManifest == null) {
+            previousManifest = readExistingManifest(directory);
+        }
+        long generation = existingShards.stream().mapToLong(ShardedAddressBookStorage::generationOf).max()
+                .orElse(0) + 1;
+
+        // Order keys are only kept from the previous save if the shards it wrote are reused.
+        List<Person> personList = addressBook.getPersonList();
+        List<Integer> personIds = personList.stream().map(Person::getId).toList();
+        List<Long> personOrderKeys = OrderKeys.assign(personIds, dirtyKeys == null ? Map.of() : savedPersonOrderKeys);
+        List<Event> eventList = addressBook.getEventList();
+        List<Long> eventOrderKeys = OrderKeys.assign(eventList, dirtyKeys == null ? Map.of() : savedEventOrderKeys);
+
+        Map<String, List<Person>> personGroups = new TreeMap<>();
+        Map<String, List<Long>> shardOrderKeys = new HashMap<>();
+        Map<Integer, String> personKeys = new HashMap<>();
+        Map<Integer, Long> personOrderKeysById = new HashMap<>();
+        for (int i = 0; i < personList.size(); i++) {
+            Person person = personList.get(i);
+            String key = shardKeyOf(person);
+            personGroups.computeIfAbsent(key, unused -> new ArrayList<>()).add(person);
+            shardOrderKeys.computeIfAbsent(personsKey(key), unused -> new ArrayList<>()).add(personOrderKeys.get(i));
+            personKeys.put(person.getId(), key);
+            personOrderKeysById.put(person.getId(), personOrderKeys.get(i));
+        }
+        Map<String, List<Event>> eventGroups = new TreeMap<>();
+        Map<Integer, Set<String>> attendedKeys = new HashMap<>();
+        Map<Event, Long> eventOrderKeysByEvent = new IdentityHashMap<>();
+        for (int i = 0; i < eventList.size(); i++) {
+            Event event = eventList.get(i);
+            String key = shardKeyOf(event);
+            eventGroups.computeIfAbsent(key, unused -> new ArrayList<>()).add(event);
+            shardOrderKeys.computeIfAbsent(eventsKey(key), unused -> new ArrayList<>()).add(eventOrderKeys.get(i));
+            eventOrderKeysByEvent.put(event, eventOrderKeys.get(i));
+            for (PersonReference reference : event.getAttendance().asUnmodifiableSet()) {
+                attendedKeys.computeIfAbsent(reference.getId(), unused -> new HashSet<>()).add(key);
+            }
+        }
+
+        Map<String, String> personShards = new TreeMap<>();
+        for (Map.Entry<String, List<Person>> group : personGroups.entrySet()) {
+            String key = group.getKey();
+            String previousFileName = previousManifest == null ? null : previousManifest.getPersonShards().get(key);
+            List<Long> orderKeys = shardOrderKeys.get(personsKey(key));
+            if (isClean(personsKey(key), dirtyKeys, orderKeys) && previousFileName != null) {
+                personShards.put(key, previousFileName);
+                continue;
+            }
+            String fileName = shardFileName(PERSONS_SHARD_PREFIX, key, generation);
+            new CheckedDataFile(directory.resolve(fileName))
+                    .save(out -> new JsonAddressBookWriter(out).writePersonShard(group.getValue(), orderKeys));
+            personShards.put(key, fileName);
+        }
+        Map<String, String> eventShards = new TreeMap<>();
+        for (Map.Entry<String, List<Event>> group : eventGroups.entrySet()) {
+            String key = group.getKey();
+            String previousFileName = previousManifest == null ? null : previousManifest.getEventShards().get(key);
+            List<Long> orderKeys = shardOrderKeys.get(eventsKey(key));
+            if (isClean(eventsKey(key), dirtyKeys, orderKeys) && previousFileName != null) {
+                eventShards.put(key, previousFileName);
+                continue;
+            }
+            String fileName = shardFileName(EVENTS_SHARD_PREFIX, key, generation);
+            new CheckedDataFile(directory.resolve(fileName))
+                    .save(out -> new JsonAddressBookWriter(out).writeEventShard(group.getValue(), orderKeys));
+            eventShards.put(key, fileName);
+        }
+
+        JsonShardManifest manifest = new JsonShardManifest(JsonShardManifest.FORMAT_VERSION, personShards,
+                eventShards);
+        new CheckedDataFile(directory.resolve(MANIFEST_FILE_NAME)).save(out -> JsonUtil.writeJson(manifest, out));
+        deleteUnusedShards(existingShards, manifest, previousManifest);
+
+        savedManifest = manifest;
+        savedPersonKeys = personKeys;
+        savedAttendedKeys = attendedKeys;
+        savedPersonOrderKeys = personOrderKeysById;
+        savedEventOrderKeys = eventOrderKeysByEvent;
+        savedShardOrderKeys = shardOrderKeys;
+    }
+
+    /**
+     * Returns true if the shard with {@code shardKey}, as {@link #personsKey} or {@link #eventsKey} give it, can be
+     * reused from the previous save, as none of its records changed and it has the same {@code orderKeys}.
+     */
+    private boolean isClean(String shardKey, Set<String> dirtyKeys, List<Long> orderKeys) {
+        return dirtyKeys != null && !dirtyKeys.contains(shardKey)
+                && orderKeys.equals(savedShardOrderKeys.get(shardKey));
+    }
+
+    /**
+     * Returns the shards that hold the persons and events changed by {@code changes}, as {@link #personsKey} and
+     * {@link #eventsKey} give them, or null if the shard of a changed person is not known.
+     * A person removed or replaced by one with another id is also removed from the attendance of the events they
+     * attended without a change being recorded for those events, so the shards of those events are included too.
+     */
+    private Set<String> findDirtyKeys(List<AddressBookChange> changes) {
+        Map<Integer, String> personKeys = new HashMap<>(savedPersonKeys);
+        Map<Integer, Set<String>> attendedKeys = new HashMap<>(savedAttendedKeys);
+        Set<String> dirtyKeys = new HashSet<>();
+        for (AddressBookChange change : changes) {
+            switch (change.getType()) {
+            case ADD_PERSON:
+                dirtyKeys.add(personsKey(shardKeyOf(change.getPerson())));
+                personKeys.put(change.getPerson().getId(), shardKeyOf(change.getPerson()));
+                break;
+            case SET_PERSON:
+            case REMOVE_PERSON:
+                String previousKey = personKeys.remove(change.getTargetPersonId());
+                if (previousKey == null) {
+                    return null;
+                }
+                dirtyKeys.add(personsKey(previousKey));
+                boolean isSameId = change.getType() == AddressBookChange.Type.SET_PERSON
+                        && change.getPerson().getId() == change.getTargetPersonId();
+                Set<String> eventKeys = isSameId ? null : attendedKeys.remove(change.getTargetPersonId());
+                if (eventKeys != null) {
+                    eventKeys.forEach(key -> dirtyKeys.add(eventsKey(key)));
+                }
+                if (change.getType() == AddressBookChange.Type.SET_PERSON) {
+                    dirtyKeys.add(personsKey(shardKeyOf(change.getPerson())));
+                    personKeys.put(change.getPerson().getId(), shardKeyOf(change.getPerson()));
+                    if (eventKeys != null) {
+                        attendedKeys.put(change.getPerson().getId(), eventKeys);
+                    }
+                }
+                break;
+            case CLEAR_PERSONS:
+                personKeys.clear();
+                attendedKeys.values().forEach(keys -> keys.forEach(key -> dirtyKeys.add(eventsKey(key))));
+                attendedKeys.clear();
+                break;
+            case ADD_EVENT:
+                dirtyKeys.add(eventsKey(shardKeyOf(change.getEvent())));
+                break;
+            case SET_EVENT:
+                dirtyKeys.add(eventsKey(shardKeyOf(change.getTargetEvent())));
+                dirtyKeys.add(eventsKey(shardKeyOf(change.getEvent())));
+                break;
+            case REMOVE_EVENT:
+                dirtyKeys.add(eventsKey(shardKeyOf(change.getTargetEvent())));
+                break;
+            default:
+                // Shards left without any persons or events are dropped from the manifest when it is written.
+                break;
+            }
+        }
+        return dirtyKeys;
+    }
+
+    private static String shardKeyOf(Person person) {
+        return person.getEnrollmentYear().isPresent()
+                ? String.valueOf(person.getEnrollmentYear().getValue())
+                : NO_ENROLLMENT_YEAR_KEY;
+    }
+
+    private static String shardKeyOf(Event event) {
+        return String.valueOf(event.getDuration().startDate.getYear());
+    }
+
+    private static String personsKey(String key) {
+        return PERSONS_SHARD_PREFIX + "-" + key;
+    }
+
+    private static String eventsKey(String key) {
+        return EVENTS_SHARD_PREFIX + "-" + key;
+    }
+
+    private static String shardFileName(String prefix, String key, long generation) {
+        return prefix + "-" + key + "-" + generation + ".json";
+    }
+
+    private static long generationOf(Path shardPath) {
+        Matcher matcher = SHARD_FILE_NAME.matcher(shardPath.getFileName().toString());
+        return matcher.matches() ? Long.parseLong(matcher.group(3)) : 0;
+    }
+
+    private static List<Path> listShards(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> SHARD_FILE_NAME.matcher(file.getFileName().toString()).matches()).toList();
+        }
+    }
+
+    /**
+     * Returns the manifest saved in {@code directory} before, or null if there is none that can be read.
+     */
+    private static JsonShardManifest readExistingManifest(Path directory) {
+        Path manifestPath = directory.resolve(MANIFEST_FILE_NAME);
+        if (!Files.exists(manifestPath)) {
+            return null;
+        }
+        try {
+            return readManifest(manifestPath);
+        } catch (DataLoadingException e) {
+            logger.warning("Cannot read the previous manifest in " + directory + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Deletes the shards named by neither {@code manifest} nor {@code previousManifest}, which becomes the previous
+     * generation of the manifest. If the previous manifest is not known, no shard is deleted.
+     */
+    private static void deleteUnusedShards(List<Path> shards, JsonShardManifest manifest,
+            JsonShardManifest previousManifest) {
+        if (previousManifest == null) {
+            return;
+        }
+        Set<String> usedFileNames = new HashSet<>();
+        for (JsonShardManifest usedManifest : List.of(manifest, previousManifest)) {
+            usedFileNames.addAll(usedManifest.getPersonShards().values());
+            usedFileNames.addAll(usedManifest.getEventShards().values());
+        }
+        for (Path shard : shards) {
+            if (usedFileNames.contains(shard.getFileName().toString())) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(shard);
+                Files.deleteIfExists(CheckedDataFile.getChecksumPath(shard));
+            } catch (IOException e) {
+                logger.warning("Cannot delete unused shard " + shard + ": " + e);
+            }
+        }
+    }
+
+    /**
+     * The records read from a shard, with the order key of each record.
+     */
+    private static class Shard<T> {
+        private final List<T> records = new ArrayList<>();
+        private final List<Long> orderKeys = new ArrayList<>();
+    }
+}
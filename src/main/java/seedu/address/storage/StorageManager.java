@@ -28,6 +28,16 @@ public class StorageManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Creates a {@code StorageManager} that saves the address book to the file, in the format and with the
+     * compression level given by {@code userPrefs}, with the given {@code UserPrefStorage}.
+     */
+    public StorageManager(ReadOnlyUserPrefs userPrefs, UserPrefsStorage userPrefsStorage) {
+        this(AddressBookFormatConverter.createStorage(userPrefs.getAddressBookFormat(),
+                userPrefs.getAddressBookFilePath(), userPrefs.getAddressBookCompressionLevel()),
+                userPrefsStorage);
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -129,12 +130,13 @@ public class MainWindow extends UiPart<Stage> {
                 logic.getZoomInSelected());
         eventListPanelPlaceholder.getChildren().add(eventListPanel.getRoot());
 
-        detailedPanel = new DetailedPanel(logic.getSelectedPerson(), logic.getSelectedEvent());
+        detailedPanel = new DetailedPanel(logic.getAddressBook(), logic.getSelectedPerson(), logic.getSelectedEvent());
         detailedPanelPlaceholder.getChildren().add(detailedPanel.getRoot());
         detailedPanel.showHelp();
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
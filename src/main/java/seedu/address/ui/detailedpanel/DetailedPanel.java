@@ -8,6 +8,7 @@ import javafx.fxml.FXML;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
 import seedu.address.ui.UiPart;
@@ -41,14 +42,15 @@ public class DetailedPanel extends UiPart<StackPane> {
 
     /**
      * Constructs a container panel that initially shows the help panel.
+     * Attendees of events are looked up in {@code addressBook}.
      */
-    public DetailedPanel(ObjectProperty<Person> selectedPerson,
+    public DetailedPanel(ReadOnlyAddressBook addressBook, ObjectProperty<Person> selectedPerson,
             ObjectProperty<Event> selectedEvent) {
         super(FXML);
         this.selectedPerson = selectedPerson;
         this.selectedEvent = selectedEvent;
         personPanel = new PersonPanel();
-        eventPanel = new EventPanel();
+        eventPanel = new EventPanel(addressBook);
         consolidatePanel = new ConsolidatePanel();
 
         helpPanelPlaceholder.getChildren().add(helpPanel.getRoot());
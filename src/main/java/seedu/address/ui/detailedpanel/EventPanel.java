@@ -1,14 +1,16 @@
 package seedu.address.ui.detailedpanel;
 
-import java.util.List;
+import java.util.Optional;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.VBox;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.PersonReference;
+import seedu.address.model.person.Person;
 import seedu.address.ui.UiPart;
 
 /**
@@ -20,6 +22,8 @@ public class EventPanel extends UiPart<VBox> {
     private static final Image infoImage = new Image("/images/info_icon.png");
     private static final Image yearImage = new Image("/images/year.png");
 
+    private final ReadOnlyAddressBook addressBook;
+
     @FXML
     private Label name;
     @FXML
@@ -35,9 +39,11 @@ public class EventPanel extends UiPart<VBox> {
 
     /**
      * Constructs EventPanel and links the graphics.
+     * Attendees are looked up in {@code addressBook}.
      */
-    public EventPanel() {
+    public EventPanel(ReadOnlyAddressBook addressBook) {
         super(FXML);
+        this.addressBook = addressBook;
 
         yearIcon.setImage(yearImage);
         infoIcon.setImage(infoImage);
@@ -56,9 +62,14 @@ public class EventPanel extends UiPart<VBox> {
         duration.setText(selected.getDuration().toString());
         description.setText(selected.getDescription().value);
         attendees.getChildren().clear();
-        List<PersonReference> attendanceList = selected.getAttendance().asUnmodifiableList();
-        for (int i = 0; i < attendanceList.size(); i++) {
-            attendees.getChildren().add(new PersonReferenceCard(attendanceList.get(i), i + 1).getRoot());
+        int displayedIndex = 1;
+        for (PersonReference reference : selected.getAttendance().asUnmodifiableSet()) {
+            Optional<Person> attendee = addressBook.getPerson(reference);
+            assert attendee.isPresent() : "attendance should only refer to persons in the address book";
+            if (attendee.isPresent()) {
+                attendees.getChildren().add(new PersonReferenceCard(attendee.get(), displayedIndex).getRoot());
+            }
+            displayedIndex++;
         }
     }
 }
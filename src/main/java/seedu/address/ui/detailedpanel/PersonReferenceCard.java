@@ -5,11 +5,11 @@ import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.VBox;
-import seedu.address.model.event.PersonReference;
+import seedu.address.model.person.Person;
 import seedu.address.ui.UiPart;
 
 /**
- * An UI component that displays information of a {@code PersonReference}.
+ * An UI component that displays information of a {@code Person} referred to by a {@code PersonReference}.
  */
 public class PersonReferenceCard extends UiPart<VBox> {
     private static final String FXML = "detailedpanel/PersonReferenceCard.fxml";
@@ -24,7 +24,7 @@ public class PersonReferenceCard extends UiPart<VBox> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final PersonReference personReference;
+    public final Person person;
 
     @FXML
     private Label id;
@@ -36,19 +36,19 @@ public class PersonReferenceCard extends UiPart<VBox> {
     private ImageView phoneIcon = new ImageView(phoneImage);
 
     /**
-     * Creates a {@code EventCode} with the given {@code Event} and index to display.
+     * Creates a {@code PersonReferenceCard} with the given referenced {@code Person} and index to display.
      */
-    public PersonReferenceCard(PersonReference personReference, int displayedIndex) {
+    public PersonReferenceCard(Person person, int displayedIndex) {
         super(FXML);
-        this.personReference = personReference;
+        this.person = person;
         id.setText(displayedIndex + ". ");
         userIcon.setFitHeight(20.0);
         userIcon.setFitWidth(20.0);
         phoneIcon.setFitHeight(20.0);
         phoneIcon.setFitWidth(20.0);
         name.setGraphic(userIcon);
-        name.setText(personReference.getName().fullName);
+        name.setText(person.getName().fullName);
         phone.setGraphic(phoneIcon);
-        phone.setText(personReference.getPhone().value);
+        phone.setText(person.getPhone().value);
     }
 }
@@ -4,10 +4,17 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +27,23 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void deleteRecursively() throws Exception {
+        // directory with files -> deleted with its files
+        Path directory = testFolder.resolve("directory");
+        Files.createDirectories(directory.resolve("nested"));
+        Files.writeString(directory.resolve("nested").resolve("file.txt"), "content");
+        FileUtil.deleteRecursively(directory);
+        assertFalse(Files.exists(directory));
+
+        // file -> deleted
+        Path file = Files.writeString(testFolder.resolve("file.txt"), "content");
+        FileUtil.deleteRecursively(file);
+        assertFalse(Files.exists(file));
+
+        // missing path -> nothing deleted
+        FileUtil.deleteRecursively(testFolder.resolve("missing"));
+        assertTrue(Files.exists(testFolder));
+    }
+
 }
@@ -11,14 +11,17 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.person.AnyPredicate;
 import seedu.address.model.person.MultiPredicate;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NotPredicate;
 import seedu.address.model.role.Role;
 import seedu.address.model.role.RolesContainSubstringsPredicate;
 import seedu.address.model.tag.TagsContainKeywordsPredicate;
@@ -64,6 +67,15 @@ public class FindCommandParserTest {
                 + PREFIX_NAME + " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_explainPreamble_returnsExplainingFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new MultiPredicate(Arrays.asList(
+                        new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob")))), true);
+        assertParseSuccess(parser, " " + FindCommand.EXPLAIN_FLAG + " " + PREFIX_NAME + "Alice Bob",
+                expectedFindCommand);
+    }
+
     @Test
     public void parse_prefixTagValidArgs_returnsFindCommand() {
         // no leading and trailing whitespaces
@@ -105,6 +117,116 @@ public class FindCommandParserTest {
         assertParseFailure(parser, " " + PREFIX_ROLE + "(Leader)", Role.FIND_MESSAGE_CONSTRAINTS);
     }
 
+    @Test
+    public void parse_booleanExpression_returnsFindCommand() {
+        NameContainsKeywordsPredicate alicePredicate = new NameContainsKeywordsPredicate(List.of("Alice"));
+        NameContainsKeywordsPredicate bobPredicate = new NameContainsKeywordsPredicate(List.of("Bob"));
+        TagsContainKeywordsPredicate friendPredicate = new TagsContainKeywordsPredicate(List.of("friend"));
+
+        assertParseSuccess(parser, " n/Alice \\OR t/friend",
+                new FindCommand(new AnyPredicate(List.of(alicePredicate, friendPredicate))));
+
+        // operators in any case
+        assertParseSuccess(parser, " n/Alice \\or t/friend",
+                new FindCommand(new AnyPredicate(List.of(alicePredicate, friendPredicate))));
+
+        // AND binds tighter than OR, and is implied between prefixes without an operator
+        assertParseSuccess(parser, " n/Alice \\OR n/Bob t/friend",
+                new FindCommand(new AnyPredicate(List.of(alicePredicate,
+                        new MultiPredicate(List.of(bobPredicate, friendPredicate))))));
+
+        // parentheses group
+        assertParseSuccess(parser, " \\(n/Alice \\OR n/Bob\\) \\AND t/friend",
+                new FindCommand(new MultiPredicate(List.of(
+                        new AnyPredicate(List.of(alicePredicate, bobPredicate)), friendPredicate))));
+        assertParseSuccess(parser, " \\( n/Alice \\OR \\(\\(n/Bob\\)\\) \\) \\AND t/friend",
+                new FindCommand(new MultiPredicate(List.of(
+                        new AnyPredicate(List.of(alicePredicate, bobPredicate)), friendPredicate))));
+
+        // negation
+        assertParseSuccess(parser, " \\NOT t/friend",
+                new FindCommand(new NotPredicate(friendPredicate)));
+        assertParseSuccess(parser, " explain \\NOT \\NOT t/friend",
+                new FindCommand(friendPredicate, true));
+    }
+
+    @Test
+    public void parse_redundantBooleanExpression_simplified() {
+        NameContainsKeywordsPredicate alicePredicate = new NameContainsKeywordsPredicate(List.of("Alice"));
+        TagsContainKeywordsPredicate friendPredicate = new TagsContainKeywordsPredicate(List.of("friend"));
+
+        // nested operators are flattened
+        assertParseSuccess(parser, " n/Alice \\AND \\(t/friend \\AND n/Bob\\) \\AND n/Alice",
+                new FindCommand(new MultiPredicate(List.of(alicePredicate, friendPredicate,
+                        new NameContainsKeywordsPredicate(List.of("Bob"))))));
+
+        // repeated terms are kept once
+        assertParseSuccess(parser, " n/Alice \\OR \\(n/Alice\\)", new FindCommand(alicePredicate));
+
+        // a term together with its negation is always or never satisfied
+        assertParseSuccess(parser, " n/Alice \\OR \\NOT n/Alice", new FindCommand(new MultiPredicate(List.of())));
+        assertParseSuccess(parser, " t/friend \\AND \\(n/Alice \\AND \\NOT n/Alice\\)",
+                new FindCommand(new AnyPredicate(List.of())));
+    }
+
+    @Test
+    public void parse_parenthesesInName_notGrouping() {
+        assertParseSuccess(parser, " " + PREFIX_NAME + "Tan (Jr)",
+                new FindCommand(new MultiPredicate(List.of(
+                        new NameContainsKeywordsPredicate(List.of("Tan", "(Jr)"))))));
+        assertParseSuccess(parser, " " + PREFIX_NAME + "(Tan) Lee)",
+                new FindCommand(new MultiPredicate(List.of(
+                        new NameContainsKeywordsPredicate(List.of("(Tan)", "Lee)"))))));
+        assertParseSuccess(parser, " \\(n/Tan (Jr)\\) \\OR n/Bob",
+                new FindCommand(new AnyPredicate(List.of(
+                        new NameContainsKeywordsPredicate(List.of("Tan", "(Jr)")),
+                        new NameContainsKeywordsPredicate(List.of("Bob"))))));
+    }
+
+    @Test
+    public void parse_spacesInRoleWithOperators_spacesKept() {
+        assertParseSuccess(parser, " \\(" + PREFIX_ROLE + "section   leader\\) \\OR " + PREFIX_NAME + "Bob",
+                new FindCommand(new AnyPredicate(List.of(
+                        new RolesContainSubstringsPredicate(List.of("section   leader")),
+                        new NameContainsKeywordsPredicate(List.of("Bob"))))));
+    }
+
+    @Test
+    public void parse_operatorWordsInName_searchedAsKeywords() {
+        // Words that are operators without the backslash are keywords, as they were before operators were added
+        assertParseSuccess(parser, " " + PREFIX_NAME + "Tom Or Jerry",
+                new FindCommand(new MultiPredicate(List.of(
+                        new NameContainsKeywordsPredicate(List.of("Tom", "Or", "Jerry"))))));
+        assertParseSuccess(parser, " " + PREFIX_NAME + "AND OR NOT " + PREFIX_TAG + "friend",
+                new FindCommand(new MultiPredicate(List.of(
+                        new NameContainsKeywordsPredicate(List.of("AND", "OR", "NOT")),
+                        new TagsContainKeywordsPredicate(List.of("friend"))))));
+        assertParseSuccess(parser, " " + PREFIX_NAME + "Or \\OR " + PREFIX_NAME + "Bob",
+                new FindCommand(new AnyPredicate(List.of(
+                        new NameContainsKeywordsPredicate(List.of("Or")),
+                        new NameContainsKeywordsPredicate(List.of("Bob"))))));
+    }
+
+    @Test
+    public void parse_invalidBooleanExpression_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " \\(n/Alice \\OR n/Bob", expectedMessage);
+        assertParseFailure(parser, " n/Alice \\OR n/Bob\\)", expectedMessage);
+        assertParseFailure(parser, " n/Alice \\OR", expectedMessage);
+        assertParseFailure(parser, " \\OR n/Alice", expectedMessage);
+        assertParseFailure(parser, " n/Alice \\AND \\NOT", expectedMessage);
+        assertParseFailure(parser, " \\(\\)", expectedMessage);
+        assertParseFailure(parser, " Alice \\OR n/Bob", expectedMessage);
+    }
+
+    @Test
+    public void parse_reusedParser_parsesEachExpressionIndependently() {
+        NameContainsKeywordsPredicate alicePredicate = new NameContainsKeywordsPredicate(List.of("Alice"));
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " \\(n/Alice \\OR n/Bob", expectedMessage);
+        assertParseSuccess(parser, " n/Alice \\OR \\(n/Alice\\)", new FindCommand(alicePredicate));
+    }
+
     @Test
     public void parse_invalidValue_failure() {
         // empty name
@@ -0,0 +1,104 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.event.Event;
+import seedu.address.model.event.PersonReference;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.TypicalAddressBook;
+
+public class AddressBookSnapshotTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AddressBookSnapshot(null));
+    }
+
+    @Test
+    public void constructor_addressBookChangedLater_snapshotUnchanged() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addEvent(new EventBuilder().build());
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+
+        addressBook.addPerson(HOON);
+        Event event = addressBook.getEventList().get(0);
+        Event editedEvent = new Event(event);
+        editedEvent.getAttendance().add(new PersonReference(HOON));
+        addressBook.setEvent(event, editedEvent);
+
+        assertFalse(snapshot.getPersonList().contains(HOON));
+        assertEquals(new EventBuilder().build(), snapshot.getEventList().get(0));
+        assertTrue(snapshot.getEventList().get(0).getAttendance().asUnmodifiableSet().isEmpty());
+        snapshot.isValidAddressBook();
+    }
+
+    @Test
+    public void constructor_attendeeRemovedLater_snapshotAttendanceUnchanged() throws Exception {
+        AddressBook addressBook = TypicalAddressBook.getTypicalAddressBook();
+        Person attendee = addressBook.getPersonList().get(0);
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+        Event event = snapshot.getEventList().get(0);
+        assertTrue(event.getAttendance().contains(new PersonReference(attendee)));
+
+        addressBook.removePerson(attendee);
+
+        assertSame(event, snapshot.getEventList().get(0));
+        assertTrue(event.getAttendance().contains(new PersonReference(attendee)));
+        assertFalse(addressBook.getEventList().get(0).getAttendance().contains(new PersonReference(attendee)));
+        snapshot.isValidAddressBook();
+    }
+
+    @Test
+    public void constructor_listsUnchangedSinceLastSnapshot_listsShared() {
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+
+        addressBook.addEvent(new EventBuilder().build());
+        AddressBookSnapshot laterSnapshot = new AddressBookSnapshot(addressBook);
+
+        assertSame(snapshot.getPersonList(), laterSnapshot.getPersonList());
+        assertEquals(1, laterSnapshot.getEventList().size());
+        assertTrue(snapshot.getEventList().isEmpty());
+    }
+
+    @Test
+    public void getChangesSince_changesRecordedBySource_sameChanges() {
+        AddressBook addressBook = getTypicalAddressBook();
+        long version = addressBook.getVersion();
+        addressBook.addPerson(HOON);
+        addressBook.removePerson(ALICE);
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(addressBook);
+
+        assertEquals(addressBook.getVersion(), snapshot.getVersion());
+        assertEquals(addressBook.getChangesSince(version), snapshot.getChangesSince(version));
+        assertEquals(Optional.of(List.of()), snapshot.getChangesSince(snapshot.getVersion()));
+        assertEquals(Optional.empty(), snapshot.getChangesSince(snapshot.getVersion() + 1));
+    }
+
+    @Test
+    public void getSource_snapshotOfSnapshot_originalSource() {
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(new AddressBookSnapshot(addressBook));
+        assertSame(addressBook, snapshot.getSource());
+    }
+
+    @Test
+    public void getPerson() {
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(getTypicalAddressBook());
+        assertEquals(Optional.of(ALICE), snapshot.getPerson(new PersonReference(ALICE)));
+        assertFalse(snapshot.getPerson(new PersonReference(HOON)).isPresent());
+    }
+}
@@ -10,10 +10,13 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -23,10 +26,13 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.SortUtil;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.PersonReference;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalAddressBook;
 
 public class AddressBookTest {
 
@@ -41,6 +47,26 @@ public class AddressBookTest {
         assertEquals(Collections.emptyList(), addressBook.getPersonList());
     }
 
+    @Test
+    public void constructor_personsAndEvents_sameAsAddingOneAtATime() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        // Pinned persons are moved to the front, keeping the order between the other persons
+        List<Person> unpinnedFirst = new ArrayList<>(typicalAddressBook.getPersonList()
+                .subList(1, typicalAddressBook.getPersonList().size()));
+        unpinnedFirst.add(typicalAddressBook.getPersonList().get(0));
+
+        AddressBook bulkAddressBook = new AddressBook(unpinnedFirst, typicalAddressBook.getEventList());
+        assertEquals(typicalAddressBook, bulkAddressBook);
+        assertEquals(typicalAddressBook.getPersonList(), bulkAddressBook.getPersonList());
+    }
+
+    @Test
+    public void constructor_duplicatePersons_throwsDuplicatePersonException() {
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(DuplicatePersonException.class, () ->
+                new AddressBook(Arrays.asList(ALICE, editedAlice), Collections.emptyList()));
+    }
+
     @Test
     public void resetData_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.resetData(null));
@@ -149,6 +175,171 @@ public class AddressBookTest {
         assertEquals(expected, addressBook);
     }
 
+    @Test
+    public void sort_setPersonUnpinned_sortedInCorrectOrder() {
+        addressBook.addPerson(unpinnedA);
+        addressBook.addPerson(pinnedC);
+        addressBook.addPerson(unpinnedB);
+
+        Person editedPersonC = new PersonBuilder(pinnedC).withPin(false).build();
+        addressBook.setPerson(pinnedC, editedPersonC);
+
+        assertEquals(List.of(editedPersonC, unpinnedA, unpinnedB), addressBook.getPersonList());
+    }
+
+    @Test
+    public void sort_setPersonKeepsPin_positionUnchanged() {
+        addressBook.addPerson(unpinnedA);
+        addressBook.addPerson(unpinnedB);
+        addressBook.addPerson(pinnedC);
+
+        Person editedPersonA = new PersonBuilder(unpinnedA).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.setPerson(unpinnedA, editedPersonA);
+
+        assertEquals(List.of(pinnedC, editedPersonA, unpinnedB), addressBook.getPersonList());
+    }
+
+    //// attendance index tests
+
+    @Test
+    public void getEventsAttendedBy_personAttendingEvents_returnsAttendedEvents() {
+        AddressBook typicalAddressBook = TypicalAddressBook.getTypicalAddressBook();
+        Person firstPerson = typicalAddressBook.getPersonList().get(0);
+        Person secondPerson = typicalAddressBook.getPersonList().get(1);
+
+        assertEquals(Set.copyOf(typicalAddressBook.getEventList()),
+                Set.copyOf(typicalAddressBook.getEventsAttendedBy(firstPerson)));
+        assertEquals(Set.of(typicalAddressBook.getEventList().get(0)),
+                Set.copyOf(typicalAddressBook.getEventsAttendedBy(secondPerson)));
+    }
+
+    @Test
+    public void getEventsAttendedBy_personRenamed_eventsFollowPerson() {
+        AddressBook typicalAddressBook = TypicalAddressBook.getTypicalAddressBook();
+        Person secondPerson = typicalAddressBook.getPersonList().get(1);
+        Person renamedPerson = new PersonBuilder(secondPerson).withName("Renamed Person").build();
+        typicalAddressBook.setPerson(secondPerson, renamedPerson);
+
+        Event firstEvent = typicalAddressBook.getEventList().get(0);
+        assertTrue(firstEvent.getAttendance().contains(new PersonReference(renamedPerson)));
+        assertFalse(firstEvent.getAttendance().contains(new PersonReference(secondPerson)));
+        assertEquals(Set.of(firstEvent), Set.copyOf(typicalAddressBook.getEventsAttendedBy(renamedPerson)));
+        assertTrue(typicalAddressBook.getEventsAttendedBy(secondPerson).isEmpty());
+    }
+
+    @Test
+    public void setPerson_sameId_attendanceUnchanged() {
+        AddressBook typicalAddressBook = TypicalAddressBook.getTypicalAddressBook();
+        Person secondPerson = typicalAddressBook.getPersonList().get(1);
+        Person renamedPerson = new Person(secondPerson.getId(), new Name("Renamed Person"), secondPerson.getPhone(),
+                secondPerson.getEmail(), secondPerson.getAddress(), secondPerson.getPin(), secondPerson.getRoles(),
+                secondPerson.getTags(), secondPerson.getEmergencyContact(), secondPerson.getEnrollmentYear());
+        Event firstEvent = typicalAddressBook.getEventList().get(0);
+        List<PersonReference> attendanceBefore = firstEvent.getAttendance().asUnmodifiableList();
+        typicalAddressBook.setPerson(secondPerson, renamedPerson);
+
+        assertEquals(attendanceBefore, firstEvent.getAttendance().asUnmodifiableList());
+        assertEquals(Optional.of(renamedPerson), typicalAddressBook.getPerson(new PersonReference(secondPerson)));
+        assertEquals(Set.of(firstEvent), Set.copyOf(typicalAddressBook.getEventsAttendedBy(renamedPerson)));
+    }
+
+    @Test
+    public void getPerson_personNotInAddressBook_returnsEmpty() {
+        addressBook.addPerson(ALICE);
+        assertEquals(Optional.of(ALICE), addressBook.getPerson(new PersonReference(ALICE)));
+        assertEquals(Optional.empty(), addressBook.getPerson(new PersonReference(new PersonBuilder().build())));
+    }
+
+    @Test
+    public void getEventsAttendedBy_personRemoved_removedFromAttendance() {
+        AddressBook typicalAddressBook = TypicalAddressBook.getTypicalAddressBook();
+        Person firstPerson = typicalAddressBook.getPersonList().get(0);
+        typicalAddressBook.removePerson(firstPerson);
+
+        for (Event event : typicalAddressBook.getEventList()) {
+            assertFalse(event.getAttendance().contains(new PersonReference(firstPerson)));
+        }
+        assertTrue(typicalAddressBook.getEventsAttendedBy(firstPerson).isEmpty());
+    }
+
+    @Test
+    public void getEventsAttendedBy_eventRemoved_noLongerAttended() {
+        AddressBook typicalAddressBook = TypicalAddressBook.getTypicalAddressBook();
+        Person secondPerson = typicalAddressBook.getPersonList().get(1);
+        typicalAddressBook.removeEvent(typicalAddressBook.getEventList().get(0));
+
+        assertTrue(typicalAddressBook.getEventsAttendedBy(secondPerson).isEmpty());
+    }
+
+    @Test
+    public void getEventsAttendedBy_attendanceChangedAfterwards_viewUpdated() {
+        AddressBook typicalAddressBook = TypicalAddressBook.getTypicalAddressBook();
+        Person secondPerson = typicalAddressBook.getPersonList().get(1);
+        Person newPerson = new PersonBuilder().withName("New Person").build();
+        typicalAddressBook.addPerson(newPerson);
+        Set<Event> attendedBySecond = typicalAddressBook.getEventsAttendedBy(secondPerson);
+        Set<Event> attendedByNewPerson = typicalAddressBook.getEventsAttendedBy(newPerson);
+        assertTrue(attendedByNewPerson.isEmpty());
+
+        Event lastEvent = typicalAddressBook.getEventList().get(typicalAddressBook.getEventList().size() - 1);
+        Event attendedEvent = new Event(lastEvent);
+        attendedEvent.getAttendance().add(new PersonReference(newPerson));
+        typicalAddressBook.setEvent(lastEvent, attendedEvent);
+        assertEquals(Set.of(attendedEvent), Set.copyOf(attendedByNewPerson));
+
+        typicalAddressBook.setEvents(new ArrayList<>(typicalAddressBook.getEventList()));
+        assertEquals(Set.of(attendedEvent), Set.copyOf(attendedByNewPerson));
+        assertEquals(Set.of(typicalAddressBook.getEventList().get(0)), Set.copyOf(attendedBySecond));
+
+        typicalAddressBook.clearEvent();
+        assertTrue(attendedByNewPerson.isEmpty());
+    }
+
+    @Test
+    public void getVersion_changes_versionIncreases() {
+        long version = addressBook.getVersion();
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getVersion() > version);
+
+        version = addressBook.getVersion();
+        addressBook.hasPerson(ALICE);
+        addressBook.getEventsAttendedBy(ALICE);
+        assertEquals(version, addressBook.getVersion());
+
+        addressBook.removePerson(ALICE);
+        assertTrue(addressBook.getVersion() > version);
+    }
+
+    @Test
+    public void getChangesSince_changesRecorded_changesBringCopyUpToDate() {
+        addressBook.addPerson(ALICE);
+        AddressBook copy = new AddressBook(addressBook);
+        long version = addressBook.getVersion();
+
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.addPerson(unpinnedA);
+        addressBook.removePerson(editedAlice);
+
+        List<AddressBookChange> changes = addressBook.getChangesSince(version).get();
+        assertEquals(3, changes.size());
+        changes.forEach(change -> change.applyTo(copy));
+        assertEquals(addressBook, copy);
+
+        assertEquals(List.of(), addressBook.getChangesSince(addressBook.getVersion()).get());
+    }
+
+    @Test
+    public void getChangesSince_dataReplaced_returnsEmpty() {
+        addressBook.addPerson(ALICE);
+        long version = addressBook.getVersion();
+        addressBook.resetData(getTypicalAddressBook());
+        assertFalse(addressBook.getChangesSince(version).isPresent());
+
+        // future version
+        assertFalse(addressBook.getChangesSince(addressBook.getVersion() + 1).isPresent());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -212,6 +403,21 @@ public class AddressBookTest {
             throw new RuntimeException("This method should not be called");
         }
 
+        @Override
+        public Optional<Person> getPerson(PersonReference reference) {
+            throw new RuntimeException("This method should not be called");
+        }
+
+        @Override
+        public long getVersion() {
+            throw new RuntimeException("This method should not be called");
+        }
+
+        @Override
+        public Optional<List<AddressBookChange>> getChangesSince(long version) {
+            throw new RuntimeException("This method should not be called");
+        }
+
         @Override
         public void isValidAddressBook() throws DataLoadingException {
             throw new RuntimeException("This method should not be called");
@@ -0,0 +1,78 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.AnyPredicate;
+import seedu.address.model.person.MultiPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NotPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.TagsContainKeywordsPredicate;
+
+public class FindResultCacheTest {
+
+    private final Predicate<Person> alicePredicate = new NameContainsKeywordsPredicate(List.of("Alice"));
+    private final Predicate<Person> bobPredicate = new NameContainsKeywordsPredicate(List.of("Bob"));
+    private final Predicate<Person> friendPredicate = new TagsContainKeywordsPredicate(List.of("friend"));
+
+    private final FindResultCache cache = new FindResultCache(2);
+
+    @Test
+    public void getFilter_samePredicate_returnsRememberedFilter() {
+        Predicate<Person> filter = cache.getFilter(alicePredicate, 0, FindResultCacheTest::newFilter);
+        assertSame(filter, cache.getFilter(new NameContainsKeywordsPredicate(List.of("Alice")), 0,
+                FindResultCacheTest::newFilter));
+    }
+
+    @Test
+    public void getFilter_reorderedTerms_returnsRememberedFilter() {
+        Predicate<Person> filter = cache.getFilter(new MultiPredicate(List.of(
+                new AnyPredicate(List.of(alicePredicate, bobPredicate)), new NotPredicate(friendPredicate))),
+                0, FindResultCacheTest::newFilter);
+        assertSame(filter, cache.getFilter(new MultiPredicate(List.of(
+                new NotPredicate(friendPredicate), new AnyPredicate(List.of(bobPredicate, alicePredicate)))),
+                0, FindResultCacheTest::newFilter));
+
+        // different kind of combination -> different filter
+        assertNotSame(filter, cache.getFilter(new AnyPredicate(List.of(
+                new MultiPredicate(List.of(alicePredicate, bobPredicate)), new NotPredicate(friendPredicate))),
+                0, FindResultCacheTest::newFilter));
+    }
+
+    @Test
+    public void getFilter_versionChanged_filtersForgotten() {
+        Predicate<Person> filter = cache.getFilter(alicePredicate, 0, FindResultCacheTest::newFilter);
+        assertNotSame(filter, cache.getFilter(alicePredicate, 1, FindResultCacheTest::newFilter));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void getFilter_overCapacity_leastRecentlyUsedForgotten() {
+        Predicate<Person> aliceFilter = cache.getFilter(alicePredicate, 0, FindResultCacheTest::newFilter);
+        Predicate<Person> bobFilter = cache.getFilter(bobPredicate, 0, FindResultCacheTest::newFilter);
+        cache.getFilter(alicePredicate, 0, FindResultCacheTest::newFilter);
+        cache.getFilter(friendPredicate, 0, FindResultCacheTest::newFilter);
+
+        assertEquals(2, cache.size());
+        assertSame(aliceFilter, cache.getFilter(alicePredicate, 0, FindResultCacheTest::newFilter));
+        assertNotSame(bobFilter, cache.getFilter(bobPredicate, 0, FindResultCacheTest::newFilter));
+    }
+
+    @Test
+    public void getFilter_predicateWithoutIndex_notRemembered() {
+        Predicate<Person> predicate = new MultiPredicate(List.of(alicePredicate, person -> true));
+        cache.getFilter(predicate, 0, FindResultCacheTest::newFilter);
+        assertEquals(0, cache.size());
+    }
+
+    private static Predicate<Person> newFilter(Predicate<Person> predicate) {
+        return person -> predicate.test(person);
+    }
+}
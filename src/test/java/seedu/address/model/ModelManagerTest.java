@@ -12,6 +12,7 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -19,6 +20,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.util.SortUtil;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.TagsContainKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.PersonBuilder;
 
@@ -160,6 +162,37 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredEventList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_tagPredicate_followsEdits() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new TagsContainKeywordsPredicate(List.of("owes")));
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+
+        Person aliceOwingMoney = new PersonBuilder(ALICE).withTags("owesMoney").build();
+        modelManager.setPerson(ALICE, aliceOwingMoney);
+        assertEquals(List.of(aliceOwingMoney, BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(BENSON);
+        assertEquals(List.of(aliceOwingMoney), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_repeatedFind_followsEdits() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new TagsContainKeywordsPredicate(List.of("owes")));
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.updateFilteredPersonList(new TagsContainKeywordsPredicate(List.of("owes")));
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+
+        Person aliceOwingMoney = new PersonBuilder(ALICE).withTags("owesMoney").build();
+        modelManager.setPerson(ALICE, aliceOwingMoney);
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        modelManager.updateFilteredPersonList(new TagsContainKeywordsPredicate(List.of("owes")));
+        assertEquals(List.of(aliceOwingMoney, BENSON), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
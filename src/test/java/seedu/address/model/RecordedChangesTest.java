@@ -0,0 +1,45 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class RecordedChangesTest {
+
+    @Test
+    public void record_changes_latestOldestFirst() {
+        AddressBookChange first = AddressBookChange.removePerson(1);
+        AddressBookChange second = AddressBookChange.removePerson(2);
+        RecordedChanges changes = RecordedChanges.EMPTY.record(first, 10).record(second, 10);
+
+        assertEquals(2, changes.size());
+        assertEquals(List.of(first, second), changes.getLatest(2));
+        assertEquals(List.of(second), changes.getLatest(1));
+        assertEquals(0, RecordedChanges.EMPTY.size());
+    }
+
+    @Test
+    public void record_moreThanTwiceMaxSize_keepsLatestMaxSize() {
+        List<AddressBookChange> recorded = new ArrayList<>();
+        RecordedChanges changes = RecordedChanges.EMPTY;
+        for (int i = 0; i < 7; i++) {
+            AddressBookChange change = AddressBookChange.removePerson(i);
+            recorded.add(change);
+            changes = changes.record(change, 3);
+        }
+
+        // Trimmed to the latest 3 when the 7th change was recorded
+        assertEquals(3, changes.size());
+        assertEquals(recorded.subList(4, 7), changes.getLatest(3));
+    }
+
+    @Test
+    public void record_earlierChanges_unchanged() {
+        RecordedChanges earlier = RecordedChanges.EMPTY.record(AddressBookChange.removePerson(1), 10);
+        earlier.record(AddressBookChange.removePerson(2), 10);
+        assertEquals(1, earlier.size());
+    }
+}
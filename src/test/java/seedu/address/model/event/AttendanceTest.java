@@ -0,0 +1,94 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.event.exceptions.DuplicateAttendeeException;
+import seedu.address.model.event.exceptions.PersonReferenceNotFoundException;
+
+public class AttendanceTest {
+
+    private static final PersonReference REFERENCE_ALICE = new PersonReference(ALICE);
+    private static final PersonReference REFERENCE_BENSON = new PersonReference(BENSON);
+    private static final PersonReference REFERENCE_CARL = new PersonReference(CARL);
+
+    private final Attendance attendance = new Attendance();
+
+    @Test
+    public void add_duplicatePerson_throwsDuplicateAttendeeException() {
+        attendance.add(REFERENCE_ALICE);
+        assertThrows(DuplicateAttendeeException.class, () -> attendance.add(new PersonReference(ALICE)));
+    }
+
+    @Test
+    public void asUnmodifiableList_keepsInsertionOrder() {
+        attendance.add(REFERENCE_CARL);
+        attendance.add(REFERENCE_ALICE);
+        attendance.add(REFERENCE_BENSON);
+        attendance.remove(REFERENCE_ALICE);
+        attendance.add(REFERENCE_ALICE);
+        assertEquals(List.of(REFERENCE_CARL, REFERENCE_BENSON, REFERENCE_ALICE), attendance.asUnmodifiableList());
+    }
+
+    @Test
+    public void asUnmodifiableList_afterChange_listsCurrentPersons() {
+        attendance.add(REFERENCE_ALICE);
+        List<PersonReference> before = attendance.asUnmodifiableList();
+        assertSame(before, attendance.asUnmodifiableList());
+
+        attendance.add(REFERENCE_BENSON);
+        assertEquals(List.of(REFERENCE_ALICE), before);
+        assertEquals(List.of(REFERENCE_ALICE, REFERENCE_BENSON), attendance.asUnmodifiableList());
+    }
+
+    @Test
+    public void equals_differentOrder_returnsFalse() {
+        Attendance other = new Attendance(List.of(REFERENCE_BENSON, REFERENCE_ALICE));
+        attendance.addAll(List.of(REFERENCE_ALICE, REFERENCE_BENSON));
+        assertFalse(attendance.equals(other));
+        assertEquals(new Attendance(List.of(REFERENCE_ALICE, REFERENCE_BENSON)), attendance);
+        assertEquals(new Attendance(List.of(REFERENCE_ALICE, REFERENCE_BENSON)).hashCode(), attendance.hashCode());
+    }
+
+    @Test
+    public void remove_personNotInAttendance_throwsPersonReferenceNotFoundException() {
+        assertThrows(PersonReferenceNotFoundException.class, () -> attendance.remove(REFERENCE_ALICE));
+    }
+
+    @Test
+    public void remove_index_removesPersonAtIndex() {
+        attendance.addAll(List.of(REFERENCE_ALICE, REFERENCE_BENSON, REFERENCE_CARL));
+        attendance.remove(1);
+        assertEquals(List.of(REFERENCE_ALICE, REFERENCE_CARL), attendance.asUnmodifiableList());
+    }
+
+    @Test
+    public void remove_indexOutOfRange_throwsIndexOutOfBoundsException() {
+        attendance.add(REFERENCE_ALICE);
+        assertThrows(IndexOutOfBoundsException.class, () -> attendance.remove(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> attendance.remove(-1));
+    }
+
+    @Test
+    public void removeAll_ignoresPersonsNotInAttendance() {
+        attendance.addAll(List.of(REFERENCE_ALICE, REFERENCE_BENSON));
+        attendance.removeAll(List.of(REFERENCE_BENSON, REFERENCE_CARL));
+        assertTrue(attendance.contains(REFERENCE_ALICE));
+        assertFalse(attendance.contains(REFERENCE_BENSON));
+    }
+
+    @Test
+    public void asUnmodifiableSet_modifySet_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> attendance.asUnmodifiableSet().add(REFERENCE_ALICE));
+    }
+}
@@ -108,6 +108,14 @@ public class UniqueEventListTest {
         assertThrows(DuplicateEventException.class, () -> uniqueEventList.setEvent(MEETING, TRAINING));
     }
 
+    @Test
+    public void setEvent_editedEventHasDifferentIdentity_oldIdentityNotContained() {
+        uniqueEventList.add(MEETING);
+        uniqueEventList.setEvent(MEETING, TRAINING);
+        assertFalse(uniqueEventList.contains(MEETING));
+        assertTrue(uniqueEventList.contains(TRAINING));
+    }
+
     @Test
     public void remove_nullEvent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueEventList.remove(null));
@@ -124,6 +132,7 @@ public class UniqueEventListTest {
         uniqueEventList.remove(MEETING);
         UniqueEventList expectedUniqueEventList = new UniqueEventList();
         assertEquals(expectedUniqueEventList, uniqueEventList);
+        assertFalse(uniqueEventList.contains(MEETING));
     }
 
     @Test
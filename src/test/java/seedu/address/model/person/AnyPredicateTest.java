@@ -0,0 +1,89 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.testutil.PersonBuilder;
+
+public class AnyPredicateTest {
+
+    @Test
+    public void equals() throws ParseException {
+        AnyPredicate firstPredicate = new AnyPredicate(List.of(
+            new EnrollmentYearPredicate("<2025"),
+            new NameContainsKeywordsPredicate(List.of("Alice"))));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new AnyPredicate(List.of(
+            new EnrollmentYearPredicate("<2025"),
+            new NameContainsKeywordsPredicate(List.of("Alice"))))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+        assertFalse(firstPredicate.equals(new MultiPredicate(firstPredicate.getPredicates())));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+    }
+
+    @Test
+    public void test() throws ParseException {
+        AnyPredicate predicate = new AnyPredicate(List.of(
+            new EnrollmentYearPredicate("<2025"),
+            new NameContainsKeywordsPredicate(List.of("Alice"))));
+
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice").withEnrollmentYear("2026").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Bob").withEnrollmentYear("2024").build()));
+        assertFalse(predicate.test(new PersonBuilder().withName("Bob").withEnrollmentYear("2026").build()));
+
+        // no predicates -> returns false
+        assertFalse(new AnyPredicate(List.of()).test(new PersonBuilder().build()));
+    }
+
+    @Test
+    public void of_nestedAndRepeatedPredicates_flattened() throws ParseException {
+        Predicate<Person> yearPredicate = new EnrollmentYearPredicate("<2025");
+        Predicate<Person> namePredicate = new NameContainsKeywordsPredicate(List.of("Alice"));
+
+        assertEquals(new AnyPredicate(List.of(yearPredicate, namePredicate)),
+                AnyPredicate.of(List.of(yearPredicate, new AnyPredicate(List.of(namePredicate, yearPredicate)))));
+
+        // never satisfied predicates are dropped
+        assertEquals(yearPredicate, AnyPredicate.of(List.of(new AnyPredicate(List.of()), yearPredicate)));
+
+        // a predicate together with its negation -> always satisfied
+        assertEquals(new MultiPredicate(List.of()),
+                AnyPredicate.of(List.of(new NotPredicate(yearPredicate), namePredicate, yearPredicate)));
+    }
+
+    @Test
+    public void getMatchingIds_indexedPredicates_returnsUnion() throws ParseException {
+        Person alice = new PersonBuilder().withName("Alice").withPhone("91111111").withEnrollmentYear("2026").build();
+        Person bob = new PersonBuilder().withName("Bob").withPhone("92222222").withEnrollmentYear("2024").build();
+        Person carl = new PersonBuilder().withName("Carl").withPhone("93333333").withEnrollmentYear("2026").build();
+        PersonSearchIndex index = new PersonSearchIndex();
+        index.add(alice);
+        index.add(bob);
+        index.add(carl);
+
+        AnyPredicate predicate = new AnyPredicate(List.of(
+            new EnrollmentYearPredicate("<2025"),
+            new NameContainsKeywordsPredicate(List.of("Alice"))));
+        BitSet expectedIds = new BitSet();
+        expectedIds.set(alice.getId());
+        expectedIds.set(bob.getId());
+        assertEquals(expectedIds, predicate.getMatchingIds(index));
+        assertEquals(2, predicate.estimateMatches(index));
+    }
+}
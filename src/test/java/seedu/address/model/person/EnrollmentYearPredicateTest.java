@@ -5,6 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.BitSet;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -103,4 +106,23 @@ public class EnrollmentYearPredicateTest {
                 + "{constraint=LESS_THAN, value=2025}";
         assertEquals(expected, predicate.toString());
     }
+
+    @Test
+    public void getMatchingIds_allConstraints_matchesTest() throws ParseException {
+        List<Person> persons = List.of(
+                new PersonBuilder().withName("A").withPhone("91111111").withEnrollmentYear("2023").build(),
+                new PersonBuilder().withName("B").withPhone("92222222").withEnrollmentYear("2024").build(),
+                new PersonBuilder().withName("C").withPhone("93333333").withEnrollmentYear("2024").build(),
+                new PersonBuilder().withName("D").withPhone("94444444").withEnrollmentYear("2025").build(),
+                new PersonBuilder().withName("E").withPhone("95555555").withEnrollmentYear("").build());
+        PersonSearchIndex index = new PersonSearchIndex();
+        persons.forEach(index::add);
+
+        for (String input : List.of("<2024", "<=2024", ">2024", ">=2024", "=2024", "", ">9999", "<0")) {
+            EnrollmentYearPredicate predicate = new EnrollmentYearPredicate(input);
+            BitSet expectedIds = new BitSet();
+            persons.stream().filter(predicate).forEach(person -> expectedIds.set(person.getId()));
+            assertEquals(expectedIds, predicate.getMatchingIds(index), input);
+        }
+    }
 }
@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -86,4 +88,52 @@ public class MultiPredicateTest {
                 + "{predicates=[" + predicate1 + ", " + predicate2 + "]}";
         assertEquals(expected, predicate.toString());
     }
+
+    @Test
+    public void of_nestedAndRepeatedPredicates_flattened() throws ParseException {
+        Predicate<Person> yearPredicate = new EnrollmentYearPredicate("<2025");
+        Predicate<Person> namePredicate = new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob"));
+
+        assertEquals(new MultiPredicate(List.of(yearPredicate, namePredicate)),
+                MultiPredicate.of(List.of(yearPredicate, new MultiPredicate(List.of(namePredicate, yearPredicate)))));
+
+        // single predicate -> returns the predicate
+        assertEquals(yearPredicate, MultiPredicate.of(List.of(yearPredicate, yearPredicate)));
+    }
+
+    @Test
+    public void of_unsatisfiablePredicates_returnsNeverSatisfiedPredicate() throws ParseException {
+        Predicate<Person> yearPredicate = new EnrollmentYearPredicate("<2025");
+        AnyPredicate neverSatisfied = new AnyPredicate(List.of());
+
+        assertEquals(neverSatisfied, MultiPredicate.of(List.of(yearPredicate, new NotPredicate(yearPredicate))));
+        assertEquals(neverSatisfied, MultiPredicate.of(List.of(yearPredicate, neverSatisfied)));
+
+        // always satisfied predicates are dropped
+        assertEquals(yearPredicate, MultiPredicate.of(List.of(new MultiPredicate(List.of()), yearPredicate)));
+    }
+
+    @Test
+    public void getMatchingIds_indexedPredicates_returnsIntersection() throws ParseException {
+        Person alice = new PersonBuilder().withName("Alice").withPhone("91111111").withEnrollmentYear("2024").build();
+        Person bob = new PersonBuilder().withName("Bob").withPhone("92222222").withEnrollmentYear("2026").build();
+        PersonSearchIndex index = new PersonSearchIndex();
+        index.add(alice);
+        index.add(bob);
+
+        MultiPredicate predicate = new MultiPredicate(Arrays.asList(
+            new EnrollmentYearPredicate("<2025"),
+            new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Bob"))));
+        BitSet expectedIds = new BitSet();
+        expectedIds.set(alice.getId());
+        assertTrue(predicate.canUseIndex());
+        assertEquals(expectedIds, predicate.getMatchingIds(index));
+
+        // no predicates -> all persons
+        expectedIds.set(bob.getId());
+        assertEquals(expectedIds, new MultiPredicate(List.of()).getMatchingIds(index));
+
+        // predicate without an index
+        assertFalse(new MultiPredicate(List.of(person -> true)).canUseIndex());
+    }
 }
@@ -0,0 +1,80 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.BitSet;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameTokenIndexTest {
+
+    private final Person aliceTan = new PersonBuilder().withName("Alice Tan").withPhone("91111111").build();
+    private final Person tanTan = new PersonBuilder().withName("Tan Tan").withPhone("92222222").build();
+
+    private final NameTokenIndex nameTokenIndex = new NameTokenIndex();
+
+    @Test
+    public void getIds_word_returnsPersonsWithWordInName() {
+        nameTokenIndex.add(aliceTan);
+        nameTokenIndex.add(tanTan);
+
+        assertEquals(idsOf(aliceTan), nameTokenIndex.getIds("alice"));
+        assertEquals(idsOf(aliceTan, tanTan), nameTokenIndex.getIds(" TAN "));
+
+        // Only full words match
+        assertTrue(nameTokenIndex.getIds("Ali").isEmpty());
+    }
+
+    @Test
+    public void getIds_turkishDefaultLocale_matchesIgnoringCase() {
+        Person isaac = new PersonBuilder().withName("ISAAC Lim").withPhone("93333333").build();
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+            nameTokenIndex.add(isaac);
+            assertEquals(idsOf(isaac), nameTokenIndex.getIds("isaac"));
+            assertEquals(1, nameTokenIndex.countIds("Isaac"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void getIds_invalidWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> nameTokenIndex.getIds(" "));
+        assertThrows(IllegalArgumentException.class, () -> nameTokenIndex.getIds("alice tan"));
+    }
+
+    @Test
+    public void getIds_personRemoved_personNotReturned() {
+        nameTokenIndex.add(aliceTan);
+        nameTokenIndex.add(tanTan);
+        nameTokenIndex.remove(tanTan);
+
+        assertEquals(idsOf(aliceTan), nameTokenIndex.getIds("tan"));
+
+        nameTokenIndex.clear();
+        assertTrue(nameTokenIndex.getIds("alice").isEmpty());
+    }
+
+    @Test
+    public void getIds_resultModified_indexUnchanged() {
+        nameTokenIndex.add(aliceTan);
+        nameTokenIndex.getIds("alice").clear();
+
+        assertEquals(idsOf(aliceTan), nameTokenIndex.getIds("alice"));
+    }
+
+    private static BitSet idsOf(Person... persons) {
+        BitSet ids = new BitSet();
+        for (Person person : persons) {
+            ids.set(person.getId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NotPredicateTest {
+
+    private final Predicate<Person> alicePredicate = new NameContainsKeywordsPredicate(List.of("Alice"));
+
+    @Test
+    public void equals() {
+        NotPredicate predicate = new NotPredicate(alicePredicate);
+
+        // same values -> returns true
+        assertTrue(predicate.equals(new NotPredicate(new NameContainsKeywordsPredicate(List.of("Alice")))));
+
+        // different types -> returns false
+        assertFalse(predicate.equals(alicePredicate));
+
+        // null -> returns false
+        assertFalse(predicate.equals(null));
+    }
+
+    @Test
+    public void test() {
+        NotPredicate predicate = new NotPredicate(alicePredicate);
+
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Bob").build()));
+    }
+
+    @Test
+    public void of_foldsNegations() {
+        assertEquals(new NotPredicate(alicePredicate), NotPredicate.of(alicePredicate));
+        assertEquals(alicePredicate, NotPredicate.of(NotPredicate.of(alicePredicate)));
+        assertEquals(new AnyPredicate(List.of()), NotPredicate.of(new MultiPredicate(List.of())));
+        assertEquals(new MultiPredicate(List.of()), NotPredicate.of(new AnyPredicate(List.of())));
+    }
+
+    @Test
+    public void getMatchingIds_indexedPredicate_returnsComplement() {
+        Person alice = new PersonBuilder().withName("Alice").withPhone("91111111").build();
+        Person bob = new PersonBuilder().withName("Bob").withPhone("92222222").build();
+        PersonSearchIndex index = new PersonSearchIndex();
+        index.add(alice);
+        index.add(bob);
+
+        BitSet expectedIds = new BitSet();
+        expectedIds.set(bob.getId());
+        assertEquals(expectedIds, new NotPredicate(alicePredicate).getMatchingIds(index));
+        assertEquals(1, new NotPredicate(alicePredicate).estimateMatches(index));
+
+        // predicate without an index
+        assertFalse(new NotPredicate(person -> true).canUseIndex());
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.TagsContainKeywordsPredicate;
+
+public class QueryPlanTest {
+
+    private final NameContainsKeywordsPredicate meierPredicate =
+            new NameContainsKeywordsPredicate(List.of("Meier"));
+    private final NameContainsKeywordsPredicate kurzPredicate =
+            new NameContainsKeywordsPredicate(List.of("Kurz"));
+    private final TagsContainKeywordsPredicate friendsPredicate =
+            new TagsContainKeywordsPredicate(List.of("friends"));
+
+    private final PersonSearchIndex index = new PersonSearchIndex();
+
+    @BeforeEach
+    public void setUp() {
+        getTypicalPersons().forEach(index::add);
+    }
+
+    @Test
+    public void test_indexedTerms_matchesIntersection() {
+        Predicate<Person> plan = index.filterFor(new MultiPredicate(List.of(friendsPredicate, meierPredicate)));
+
+        assertFalse(plan.test(ALICE));
+        assertTrue(plan.test(BENSON));
+        assertFalse(plan.test(CARL));
+        assertTrue(plan.test(DANIEL));
+    }
+
+    @Test
+    public void test_indexChanged_planMadeAgain() {
+        Predicate<Person> plan = index.filterFor(new MultiPredicate(List.of(friendsPredicate)));
+        assertTrue(plan.test(ALICE));
+
+        index.remove(ALICE);
+        assertFalse(plan.test(ALICE));
+    }
+
+    @Test
+    public void explain_indexedTerms_mostSelectiveFirst() {
+        QueryPlan plan = (QueryPlan) index.filterFor(new MultiPredicate(List.of(friendsPredicate, meierPredicate)));
+
+        String expected = String.format(QueryPlan.MESSAGE_EXPLAIN_LOOKUP, 1, meierPredicate, 2, 2) + "\n"
+                + String.format(QueryPlan.MESSAGE_EXPLAIN_LOOKUP, 2, friendsPredicate, 3, 2);
+        assertEquals(expected, plan.explain());
+    }
+
+    @Test
+    public void explain_noPersonLeft_remainingLookupsSkipped() {
+        QueryPlan plan = (QueryPlan) index.filterFor(new MultiPredicate(List.of(friendsPredicate, kurzPredicate)));
+
+        String expected = String.format(QueryPlan.MESSAGE_EXPLAIN_LOOKUP, 1, kurzPredicate, 1, 1) + "\n"
+                + String.format(QueryPlan.MESSAGE_EXPLAIN_LOOKUP, 2, friendsPredicate, 3, 0);
+        assertEquals(expected, plan.explain());
+
+        QueryPlan skippingPlan = (QueryPlan) index.filterFor(new MultiPredicate(List.of(
+                friendsPredicate, kurzPredicate, new NameContainsKeywordsPredicate(List.of("Benson", "Daniel")))));
+        assertTrue(skippingPlan.explain().endsWith(String.format(QueryPlan.MESSAGE_EXPLAIN_SKIPPED,
+                3, friendsPredicate, 3)));
+    }
+
+    @Test
+    public void explain_otherTerms_testedLast() {
+        Predicate<Person> pinned = person -> person.getPin().value;
+        QueryPlan plan = (QueryPlan) index.filterFor(new MultiPredicate(List.of(pinned, meierPredicate)));
+
+        String expected = String.format(QueryPlan.MESSAGE_EXPLAIN_LOOKUP, 1, meierPredicate, 2, 2) + "\n"
+                + String.format(QueryPlan.MESSAGE_EXPLAIN_TEST, 2, pinned);
+        assertEquals(expected, plan.explain());
+    }
+}
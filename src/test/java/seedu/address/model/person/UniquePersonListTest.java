@@ -8,6 +8,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -15,6 +16,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.util.SortUtil;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -58,6 +60,21 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void add_withComparator_insertsInSortedPosition() {
+        uniquePersonList.add(ALICE, SortUtil.SORT_NAME_ALPHABETICAL_ASC);
+        uniquePersonList.add(CARL, SortUtil.SORT_NAME_ALPHABETICAL_ASC);
+        uniquePersonList.add(BOB, SortUtil.SORT_NAME_ALPHABETICAL_ASC);
+        assertEquals(List.of(ALICE, BOB, CARL), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void add_withComparatorDuplicatePerson_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE, SortUtil.SORT_NAME_ALPHABETICAL_ASC);
+        assertThrows(DuplicatePersonException.class, () ->
+                uniquePersonList.add(ALICE, SortUtil.SORT_NAME_ALPHABETICAL_ASC));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -109,6 +126,25 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_oldIdentityNotContained() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void setPerson_withComparator_movesToSortedPosition() {
+        uniquePersonList.add(ALICE, SortUtil.SORT_NAME_ALPHABETICAL_ASC);
+        uniquePersonList.add(BOB, SortUtil.SORT_NAME_ALPHABETICAL_ASC);
+        uniquePersonList.add(CARL, SortUtil.SORT_NAME_ALPHABETICAL_ASC);
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Zed").build();
+        uniquePersonList.setPerson(ALICE, renamedAlice, SortUtil.SORT_NAME_ALPHABETICAL_ASC);
+        assertEquals(List.of(BOB, CARL, renamedAlice), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -125,6 +161,7 @@ public class UniquePersonListTest {
         uniquePersonList.remove(ALICE);
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
     }
 
     @Test
@@ -154,6 +191,7 @@ public class UniquePersonListTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
     }
 
     @Test
@@ -0,0 +1,80 @@
+package seedu.address.model.role;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class RoleIndexTest {
+
+    private final Person leader = new PersonBuilder().withName("Leader").withPhone("91111111")
+            .withRoles("Section Leader", "President").build();
+    private final Person treasurer = new PersonBuilder().withName("Treasurer").withPhone("92222222")
+            .withRoles("Treasurer").build();
+    private final Person noRole = new PersonBuilder().withName("No Role").withPhone("93333333")
+            .withRoles().build();
+
+    private final RoleIndex roleIndex = new RoleIndex();
+
+    @Test
+    public void getIds_substring_returnsPersonsWithMatchingRoles() {
+        addAll();
+
+        // Substring with trigrams
+        assertEquals(idsOf(leader), roleIndex.getIds("leader"));
+        assertEquals(idsOf(leader), roleIndex.getIds("tion lead"));
+        assertEquals(idsOf(leader), roleIndex.getIds("  PRESiDENT "));
+
+        // Substring shorter than a trigram
+        assertEquals(idsOf(leader, treasurer), roleIndex.getIds("e"));
+
+        // All trigrams present, but not as one substring
+        assertTrue(roleIndex.getIds("leaderpres").isEmpty());
+
+        // No role contains the substring
+        assertTrue(roleIndex.getIds("secretary").isEmpty());
+    }
+
+    @Test
+    public void getIds_emptySubstring_returnsPersonsWithAnyRole() {
+        addAll();
+        assertEquals(idsOf(leader, treasurer), roleIndex.getIds(""));
+    }
+
+    @Test
+    public void getIds_personRemoved_personNotReturned() {
+        addAll();
+        roleIndex.remove(leader);
+
+        assertTrue(roleIndex.getIds("leader").isEmpty());
+        assertEquals(idsOf(treasurer), roleIndex.getIds(""));
+    }
+
+    @Test
+    public void getIds_cleared_returnsEmpty() {
+        addAll();
+        roleIndex.clear();
+
+        assertTrue(roleIndex.getIds("").isEmpty());
+        assertTrue(roleIndex.getIds("treasurer").isEmpty());
+    }
+
+    private void addAll() {
+        roleIndex.add(leader);
+        roleIndex.add(treasurer);
+        roleIndex.add(noRole);
+    }
+
+    private static BitSet idsOf(Person... persons) {
+        BitSet ids = new BitSet();
+        for (Person person : persons) {
+            ids.set(person.getId());
+        }
+        return ids;
+    }
+}
@@ -1,6 +1,9 @@
 package seedu.address.model.role;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -55,6 +58,13 @@ public class RoleTest {
         assertFalse(role.equals(new Role("section lead")));
     }
 
+    @Test
+    public void of_sameRoleName_returnsSameInstance() {
+        assertSame(Role.of("section leader"), Role.of("section leader"));
+        assertNotSame(Role.of("section leader"), Role.of("section lead"));
+        assertEquals(new Role("section leader"), Role.of("section leader"));
+    }
+
     @Test
     public void toString_test() {
         Role role = new Role("section leader");
@@ -0,0 +1,51 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.Test;
+
+public class TagIndexTest {
+
+    private final TagIndex tagIndex = new TagIndex();
+
+    @Test
+    public void getIds_matchingTags_returnsUnionOfPersons() {
+        tagIndex.add(ALICE);
+        tagIndex.add(BENSON);
+
+        assertEquals(idsOf(ALICE.getId(), BENSON.getId()), tagIndex.getIds(tag -> tag.tagName.equals("friends")));
+        assertEquals(idsOf(BENSON.getId()), tagIndex.getIds(tag -> tag.tagName.equals("owesMoney")));
+        assertEquals(idsOf(ALICE.getId(), BENSON.getId()), tagIndex.getIds(tag -> true));
+    }
+
+    @Test
+    public void getIds_personRemoved_personNotReturned() {
+        tagIndex.add(ALICE);
+        tagIndex.add(BENSON);
+        tagIndex.remove(BENSON);
+
+        assertEquals(idsOf(ALICE.getId()), tagIndex.getIds(tag -> true));
+        assertTrue(tagIndex.getIds(tag -> tag.tagName.equals("owesMoney")).isEmpty());
+    }
+
+    @Test
+    public void getIds_cleared_returnsEmpty() {
+        tagIndex.add(ALICE);
+        tagIndex.clear();
+
+        assertTrue(tagIndex.getIds(tag -> true).isEmpty());
+    }
+
+    private static BitSet idsOf(int... ids) {
+        BitSet bitSet = new BitSet();
+        for (int id : ids) {
+            bitSet.set(id);
+        }
+        return bitSet;
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.TypicalAddressBook;
+
+public class AddressBookFormatConverterTest {
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void createStorage() {
+        Path filePath = testFolder.resolve("addressBook");
+        assertTrue(AddressBookFormatConverter.createStorage(StorageFormat.JSON, filePath)
+                instanceof JsonAddressBookStorage);
+        assertTrue(AddressBookFormatConverter.createStorage(StorageFormat.BINARY, filePath)
+                instanceof BinaryAddressBookStorage);
+        assertTrue(AddressBookFormatConverter.createStorage(StorageFormat.SHARDED, filePath)
+                instanceof ShardedAddressBookStorage);
+    }
+
+    @Test
+    public void convert_jsonToShardedAndBack_sameAddressBook() throws Exception {
+        Path jsonPath = testFolder.resolve("addressBook.json");
+        Path directory = testFolder.resolve("addressBook");
+        Path exportedPath = testFolder.resolve("exported.json");
+        AddressBook original = TypicalAddressBook.getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(original);
+
+        assertTrue(AddressBookFormatConverter.convert(jsonPath, directory, StorageFormat.SHARDED));
+        assertEquals(StorageFormat.SHARDED, AddressBookFormatConverter.detectFormat(directory));
+        assertTrue(AddressBookFormatConverter.convert(directory, exportedPath, StorageFormat.JSON));
+        assertEquals(StorageFormat.JSON, AddressBookFormatConverter.detectFormat(exportedPath));
+
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(exportedPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameAddressBook() throws Exception {
+        Path jsonPath = testFolder.resolve("addressBook.json");
+        Path binaryPath = testFolder.resolve("addressBook.bin");
+        Path convertedBackPath = testFolder.resolve("convertedBack.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(original);
+
+        assertTrue(AddressBookFormatConverter.convert(jsonPath, binaryPath, StorageFormat.BINARY));
+        assertEquals(StorageFormat.BINARY, AddressBookFormatConverter.detectFormat(binaryPath));
+        assertTrue(AddressBookFormatConverter.convert(binaryPath, convertedBackPath, StorageFormat.JSON));
+        assertEquals(StorageFormat.JSON, AddressBookFormatConverter.detectFormat(convertedBackPath));
+
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(convertedBackPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void convert_sameFile_convertedInPlace() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertTrue(AddressBookFormatConverter.convert(filePath, filePath, StorageFormat.BINARY));
+        assertEquals(StorageFormat.BINARY, AddressBookFormatConverter.detectFormat(filePath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void convert_shardedToSingleFileInPlace_directoryKeptAsPreviousGeneration() throws Exception {
+        Path filePath = testFolder.resolve("addressBook");
+        Path previousPath = new CheckedDataFile(filePath).getPreviousGenerationPath();
+        AddressBook original = getTypicalAddressBook();
+        new ShardedAddressBookStorage(filePath).saveAddressBook(original);
+
+        for (StorageFormat format : List.of(StorageFormat.JSON, StorageFormat.BINARY)) {
+            assertTrue(AddressBookFormatConverter.convert(filePath, filePath, format));
+            assertEquals(format, AddressBookFormatConverter.detectFormat(filePath));
+            assertTrue(Files.isDirectory(previousPath));
+            assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+
+            // A save cut short after the directory was moved to the previous generation.
+            Files.delete(filePath);
+            assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+
+            assertTrue(AddressBookFormatConverter.convert(previousPath, filePath, StorageFormat.SHARDED));
+            assertTrue(Files.isDirectory(filePath));
+        }
+
+        // The next save replaces the directory kept as the previous generation.
+        assertTrue(AddressBookFormatConverter.convert(filePath, filePath, StorageFormat.JSON));
+        assertTrue(AddressBookFormatConverter.convert(filePath, filePath, StorageFormat.JSON));
+        assertTrue(Files.isRegularFile(previousPath));
+    }
+
+    @Test
+    public void convert_missingSource_returnsFalse() throws Exception {
+        assertFalse(AddressBookFormatConverter.convert(testFolder.resolve("missing.json"),
+                testFolder.resolve("addressBook.bin"), StorageFormat.BINARY));
+    }
+}
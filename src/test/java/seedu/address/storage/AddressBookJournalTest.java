@@ -0,0 +1,133 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookJournalTest {
+
+    private static final String SNAPSHOT_ID = "snapshot";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void replay_changesAppended_changesMade() throws Exception {
+        AddressBookJournal journal = new AddressBookJournal(testFolder.resolve("addressbook.json"));
+        journal.start(SNAPSHOT_ID);
+        journal.append(List.of(AddressBookChange.addPerson(HOON), AddressBookChange.removePerson(ALICE.getId())));
+        journal.append(List.of(AddressBookChange.setPerson(BENSON.getId(),
+                new PersonBuilder(BENSON).withTags("captain").build())));
+
+        AddressBook expected = getTypicalAddressBook();
+        expected.addPerson(HOON);
+        expected.removePerson(ALICE);
+        expected.setPerson(BENSON, new PersonBuilder(BENSON).withTags("captain").build());
+
+        AddressBook replayed = getTypicalAddressBook();
+        assertEquals(3, journal.replay(replayed, SNAPSHOT_ID));
+        assertEquals(expected, replayed);
+    }
+
+    @Test
+    public void replay_otherSnapshot_nothingReplayed() throws Exception {
+        AddressBookJournal journal = new AddressBookJournal(testFolder.resolve("addressbook.json"));
+        journal.start(SNAPSHOT_ID);
+        journal.append(List.of(AddressBookChange.addPerson(HOON)));
+
+        AddressBook addressBook = getTypicalAddressBook();
+        assertEquals(0, journal.replay(addressBook, "other snapshot"));
+        assertEquals(0, journal.replay(addressBook, null));
+        assertEquals(getTypicalAddressBook(), addressBook);
+    }
+
+    @Test
+    public void replay_incompleteLastLine_lastLineSkipped() throws Exception {
+        AddressBookJournal journal = new AddressBookJournal(testFolder.resolve("addressbook.json"));
+        journal.start(SNAPSHOT_ID);
+        journal.append(List.of(AddressBookChange.addPerson(HOON)));
+        String line = withChecksum(JsonUtil.toSingleLineJsonString(
+                new JsonAdaptedAddressBookChange(AddressBookChange.removePerson(ALICE.getId()))));
+        Files.writeString(journal.getFilePath(), line.substring(0, line.length() / 2), StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+
+        AddressBook expected = getTypicalAddressBook();
+        expected.addPerson(HOON);
+        AddressBook replayed = getTypicalAddressBook();
+        assertEquals(1, journal.replay(replayed, SNAPSHOT_ID));
+        assertEquals(expected, replayed);
+    }
+
+    @Test
+    public void replay_checksumMismatch_lastLineSkippedOtherLinesRejected() throws Exception {
+        AddressBookJournal journal = new AddressBookJournal(testFolder.resolve("addressbook.json"));
+        journal.start(SNAPSHOT_ID);
+        journal.append(List.of(AddressBookChange.addPerson(HOON)));
+        String mismatchedLine = "00000000 " + JsonUtil.toSingleLineJsonString(
+                new JsonAdaptedAddressBookChange(AddressBookChange.removePerson(ALICE.getId())));
+        Files.writeString(journal.getFilePath(), mismatchedLine + System.lineSeparator(), StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+
+        AddressBook expected = getTypicalAddressBook();
+        expected.addPerson(HOON);
+        AddressBook replayed = getTypicalAddressBook();
+        assertEquals(1, journal.replay(replayed, SNAPSHOT_ID));
+        assertEquals(expected, replayed);
+
+        journal.append(List.of(AddressBookChange.removePerson(BENSON.getId())));
+        assertThrows(DataLoadingException.class, () -> journal.replay(getTypicalAddressBook(), SNAPSHOT_ID));
+    }
+
+    @Test
+    public void replay_invalidChange_throwsDataLoadingException() throws Exception {
+        AddressBookJournal journal = new AddressBookJournal(testFolder.resolve("addressbook.json"));
+        journal.start(SNAPSHOT_ID);
+        journal.append(List.of(AddressBookChange.removePerson(HOON.getId())));
+
+        // person to remove is not in the address book
+        assertThrows(DataLoadingException.class, () -> journal.replay(getTypicalAddressBook(), SNAPSHOT_ID));
+
+        // change without a type
+        journal.start(SNAPSHOT_ID);
+        Files.writeString(journal.getFilePath(), withChecksum("{}") + System.lineSeparator()
+                + withChecksum("{}") + System.lineSeparator(), StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        assertThrows(DataLoadingException.class, () -> journal.replay(getTypicalAddressBook(), SNAPSHOT_ID));
+
+        // change without a checksum
+        journal.start(SNAPSHOT_ID);
+        String json = JsonUtil.toSingleLineJsonString(
+                new JsonAdaptedAddressBookChange(AddressBookChange.addPerson(HOON)));
+        Files.writeString(journal.getFilePath(), json + System.lineSeparator(), StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+        journal.append(List.of(AddressBookChange.removePerson(BENSON.getId())));
+        assertThrows(DataLoadingException.class, () -> journal.replay(getTypicalAddressBook(), SNAPSHOT_ID));
+    }
+
+    /**
+     * Returns the journal line of {@code json}, preceded by its CRC32C.
+     */
+    private static String withChecksum(String json) {
+        CRC32C crc = new CRC32C();
+        crc.update(json.getBytes(StandardCharsets.UTF_8));
+        return String.format("%08x %s", crc.getValue(), json);
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AsyncAddressBookSaverTest {
+    @TempDir
+    public Path testFolder;
+
+    private final Deque<Runnable> tasks = new ArrayDeque<>();
+    private final Executor queuedExecutor = tasks::add;
+    private final List<Exception> failures = new ArrayList<>();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AsyncAddressBookSaver(null, Runnable::run, failures::add));
+    }
+
+    @Test
+    public void save_burstOfSaves_onlyLatestSaved() {
+        RecordingStorage storage = new RecordingStorage(testFolder.resolve("addressBook.json"));
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage, queuedExecutor, failures::add);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        saver.save(new AddressBookSnapshot(addressBook));
+        addressBook.addPerson(HOON);
+        AddressBookSnapshot latest = new AddressBookSnapshot(addressBook);
+        saver.save(latest);
+
+        assertEquals(1, tasks.size());
+        tasks.remove().run();
+        assertEquals(List.of(latest), storage.saved);
+        assertTrue(tasks.isEmpty());
+    }
+
+    @Test
+    public void save_afterPreviousSaveFinished_savedAgain() {
+        RecordingStorage storage = new RecordingStorage(testFolder.resolve("addressBook.json"));
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage, queuedExecutor, failures::add);
+        AddressBookSnapshot first = new AddressBookSnapshot(getTypicalAddressBook());
+        AddressBookSnapshot second = new AddressBookSnapshot(new AddressBook());
+
+        saver.save(first);
+        tasks.remove().run();
+        saver.save(second);
+        tasks.remove().run();
+
+        assertEquals(List.of(first, second), storage.saved);
+    }
+
+    @Test
+    public void save_storageThrows_failureReported() {
+        IOException exception = new IOException("dummy IO exception");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw exception;
+            }
+        };
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(storage, Runnable::run, failures::add);
+
+        saver.save(new AddressBookSnapshot(new AddressBook()));
+
+        assertEquals(List.of(exception), failures);
+    }
+
+    @Test
+    public void flush_saveInBackground_waitsUntilSaved() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AsyncAddressBookSaver saver = new AsyncAddressBookSaver(new JsonAddressBookStorage(filePath),
+                AsyncAddressBookSaver.newSaverThread(), failures::add);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        saver.save(new AddressBookSnapshot(addressBook));
+        saver.flush();
+
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertTrue(failures.isEmpty());
+    }
+
+    /**
+     * A storage that records the address books saved to it instead of writing them.
+     */
+    private static class RecordingStorage extends JsonAddressBookStorage {
+        private final List<ReadOnlyAddressBook> saved = new ArrayList<>();
+
+        RecordingStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+            saved.add(addressBook);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+
+public class CheckedDataFileTest {
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void save_existingFile_previousGenerationKept() throws Exception {
+        Path filePath = testFolder.resolve("data.txt");
+        CheckedDataFile dataFile = new CheckedDataFile(filePath);
+        save(dataFile, "first");
+        save(dataFile, "second");
+
+        assertEquals("second", Files.readString(filePath));
+        assertEquals("first", Files.readString(dataFile.getPreviousGenerationPath()));
+        assertEquals(CheckedDataFile.computeChecksum(filePath),
+                Files.readString(CheckedDataFile.getChecksumPath(filePath)));
+        assertEquals(CheckedDataFile.computeChecksum(dataFile.getPreviousGenerationPath()),
+                Files.readString(CheckedDataFile.getChecksumPath(dataFile.getPreviousGenerationPath())));
+        assertEquals(Optional.of("second"), read(dataFile));
+    }
+
+    @Test
+    public void save_writerFails_dataFileUnchanged() throws Exception {
+        Path filePath = testFolder.resolve("data.txt");
+        CheckedDataFile dataFile = new CheckedDataFile(filePath);
+        save(dataFile, "first");
+
+        assertThrows(IOException.class, () -> dataFile.save(out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("Disk full");
+        }));
+        assertEquals(Optional.of("first"), read(dataFile));
+        assertFalse(Files.exists(dataFile.getPreviousGenerationPath()));
+    }
+
+    @Test
+    public void read_noFiles_emptyResult() throws Exception {
+        assertEquals(Optional.empty(), read(new CheckedDataFile(testFolder.resolve("missing.txt"))));
+    }
+
+    @Test
+    public void read_checksumMismatch_previousGenerationRead() throws Exception {
+        Path filePath = testFolder.resolve("data.txt");
+        CheckedDataFile dataFile = new CheckedDataFile(filePath);
+        save(dataFile, "first");
+        save(dataFile, "second");
+
+        corrupt(filePath, "secxnd");
+        assertEquals(Optional.of("first"), read(dataFile));
+    }
+
+    @Test
+    public void read_checksumMismatchWithoutPreviousGeneration_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.txt");
+        CheckedDataFile dataFile = new CheckedDataFile(filePath);
+        save(dataFile, "first");
+
+        corrupt(filePath, "firxt");
+        assertThrows(DataLoadingException.class, () -> read(dataFile));
+    }
+
+    @Test
+    public void read_editedAfterSave_previousGenerationRead() throws Exception {
+        Path filePath = testFolder.resolve("data.txt");
+        CheckedDataFile dataFile = new CheckedDataFile(filePath);
+        save(dataFile, "first");
+        save(dataFile, "second");
+
+        Files.writeString(filePath, "edited");
+        assertEquals(Optional.of("first"), read(dataFile));
+    }
+
+    @Test
+    public void read_unreadableFile_previousGenerationRead() throws Exception {
+        Path filePath = testFolder.resolve("data.txt");
+        CheckedDataFile dataFile = new CheckedDataFile(filePath);
+        save(dataFile, "first");
+        save(dataFile, "invalid");
+
+        assertEquals(Optional.of("first"), read(dataFile));
+    }
+
+    @Test
+    public void read_missingFile_previousGenerationRead() throws Exception {
+        Path filePath = testFolder.resolve("data.txt");
+        CheckedDataFile dataFile = new CheckedDataFile(filePath);
+        save(dataFile, "first");
+        save(dataFile, "second");
+
+        // A save cut short after the data file was moved to the previous generation.
+        Files.delete(filePath);
+        assertTrue(Files.exists(dataFile.getPreviousGenerationPath()));
+        assertEquals(Optional.of("first"), read(dataFile));
+    }
+
+    @Test
+    public void read_missingFileAndCorruptedPreviousGeneration_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("data.txt");
+        CheckedDataFile dataFile = new CheckedDataFile(filePath);
+        save(dataFile, "first");
+        save(dataFile, "second");
+
+        Files.delete(filePath);
+        corrupt(dataFile.getPreviousGenerationPath(), "firxt");
+        assertThrows(DataLoadingException.class, () -> read(dataFile));
+    }
+
+    private static void save(CheckedDataFile dataFile, String content) throws IOException {
+        dataFile.save(out -> out.write(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Reads {@code dataFile}, treating a generation with the content "invalid" as unreadable.
+     */
+    private static Optional<String> read(CheckedDataFile dataFile) throws DataLoadingException {
+        return dataFile.read(path -> {
+            try {
+                String content = Files.readString(path);
+                if (content.equals("invalid")) {
+                    throw new DataLoadingException(new IOException("Invalid content"));
+                }
+                return Optional.of(content);
+            } catch (IOException e) {
+                throw new DataLoadingException(e);
+            }
+        });
+    }
+
+    /**
+     * Replaces the content of {@code filePath}, as a disk error would.
+     */
+    private static void corrupt(Path filePath, String content) throws IOException {
+        Files.writeString(filePath, content);
+    }
+}
@@ -5,8 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.storage.JsonAdaptedEvent.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalEvents.MEETING;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -14,6 +16,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.event.Description;
 import seedu.address.model.event.Duration;
 import seedu.address.model.event.EventName;
+import seedu.address.model.event.PersonReference;
 
 public class JsonAdaptedEventTest {
     private static final String INVALID_NAME = "";
@@ -30,6 +33,19 @@ public class JsonAdaptedEventTest {
         assertEquals(MEETING, event.toModelType());
     }
 
+    @Test
+    public void toModelType_referenceWithoutId_resolvedByNameAndPhone() throws Exception {
+        JsonAdaptedPersonReference legacyReference = new JsonAdaptedPersonReference(null,
+                ALICE.getName().fullName, ALICE.getPhone().value);
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_NAME, VALID_DURATION, VALID_DESCRIPTION,
+                List.of(legacyReference));
+        Map<List<String>, Integer> legacyIds =
+                Map.of(JsonAdaptedPersonReference.legacyKey(ALICE.getName(), ALICE.getPhone()), ALICE.getId());
+
+        assertTrue(event.toModelType(legacyIds).getAttendance().contains(new PersonReference(ALICE)));
+        assertThrows(IllegalValueException.class, event::toModelType);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedEvent event =
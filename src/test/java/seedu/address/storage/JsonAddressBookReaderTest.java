@@ -0,0 +1,125 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.event.PersonReference;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonAddressBookReaderTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+
+    private static final String PERSON_WITH_ID = "{\"id\": %d, \"name\": \"%s\", \"phone\": \"%s\", "
+            + "\"email\": \"a@example.com\", \"address\": \"street\", \"pin\": false}";
+    private static final String PERSON_WITHOUT_ID = "{\"name\": \"%s\", \"phone\": \"%s\", "
+            + "\"email\": \"a@example.com\", \"address\": \"street\", \"pin\": false}";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalPersonsFile_sameAsTreeBinding() throws Exception {
+        Path filePath = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+        AddressBook expected = JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get().toModelType();
+        assertEquals(expected, new JsonAddressBookReader().read(filePath));
+    }
+
+    @Test
+    public void read_eventsBeforePersons_attendanceResolved() throws Exception {
+        Path filePath = write("{\"events\": [{\"name\": \"Meeting\", \"duration\": \"1/10/2025 - 1/10/2025\", "
+                + "\"description\": \"routine\", \"attendance\": [{\"name\": \"Amy Bee\", \"phone\": \"85355255\"}]}], "
+                + "\"persons\": [" + String.format(PERSON_WITHOUT_ID, "Amy Bee", "85355255") + "]}");
+        AddressBook addressBook = new JsonAddressBookReader().read(filePath);
+
+        Person amy = addressBook.getPersonList().get(0);
+        assertEquals(1, addressBook.getEventList().size());
+        assertEquals(amy, addressBook.getPerson(new PersonReference(amy)).get());
+        addressBook.isValidAddressBook();
+    }
+
+    @Test
+    public void read_personWithoutIdBeforePersonWithId_idsNotShared() throws Exception {
+        int laterId = new PersonBuilder().build().getId() + 1;
+        Path filePath = write("{\"persons\": [" + String.format(PERSON_WITHOUT_ID, "Amy Bee", "85355255") + ", "
+                + String.format(PERSON_WITH_ID, laterId, "Bob Choo", "22222222") + "], \"events\": []}");
+        AddressBook addressBook = new JsonAddressBookReader().read(filePath);
+
+        assertEquals(2, addressBook.getPersonList().size());
+        assertNotEquals(addressBook.getPersonList().get(0).getId(), addressBook.getPersonList().get(1).getId());
+    }
+
+    @Test
+    public void read_snapshotId_returned() throws Exception {
+        Path filePath = write("{\"persons\": [], \"events\": [], \"snapshotId\": \"abc\", \"_comment\": [1, 2]}");
+        JsonAddressBookReader reader = new JsonAddressBookReader();
+        assertEquals(new AddressBook(), reader.read(filePath));
+        assertEquals("abc", reader.getSnapshotId());
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        Path filePath = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                new JsonAddressBookReader().read(filePath));
+    }
+
+    @Test
+    public void read_invalidPersonsInDifferentBatches_firstInvalidPersonReported() throws Exception {
+        StringBuilder persons = new StringBuilder();
+        for (int i = 0; i < 3000; i++) {
+            String phone = String.format("9%07d", i);
+            String person = String.format(PERSON_WITH_ID, i + 1, "Person " + toLetters(i), phone);
+            if (i == 1500) {
+                person = person.replace("a@example.com", "not an email");
+            } else if (i == 2500) {
+                person = person.replace(phone, "not a phone");
+            }
+            persons.append(i == 0 ? "" : ", ").append(person);
+        }
+        Path filePath = write("{\"persons\": [" + persons + "], \"events\": []}");
+
+        assertThrows(IllegalValueException.class, Email.MESSAGE_CONSTRAINTS, () ->
+                new JsonAddressBookReader().read(filePath));
+    }
+
+    @Test
+    public void read_missingEvents_throwsIoException() throws Exception {
+        Path filePath = write("{\"persons\": []}");
+        assertThrows(IOException.class, () -> new JsonAddressBookReader().read(filePath));
+    }
+
+    @Test
+    public void read_truncatedFile_throwsIoException() throws Exception {
+        Path filePath = write("{\"persons\": [" + String.format(PERSON_WITHOUT_ID, "Amy Bee", "85355255"));
+        assertThrows(IOException.class, () -> new JsonAddressBookReader().read(filePath));
+    }
+
+    private static String toLetters(int i) {
+        StringBuilder letters = new StringBuilder();
+        do {
+            letters.append((char) ('a' + i % 26));
+            i /= 26;
+        } while (i > 0);
+        return letters.toString();
+    }
+
+    private Path write(String json) throws IOException {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Files.writeString(filePath, json);
+        return filePath;
+    }
+}
@@ -2,22 +2,34 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.zip.Deflater;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalAddressBook;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -55,6 +67,11 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidPersonAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBook_invalidPersonIdAddressBook_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readAddressBook("invalidPersonIdAddressBook.json"));
+    }
+
     @Test
     public void readAddressBook_invalidAndValidPersonAddressBook_throwDataLoadingException() {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
@@ -86,6 +103,134 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_savedBefore_onlyChangesJournaled() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = TypicalAddressBook.getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        original.addPerson(HOON);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withTags("captain").build());
+        Event firstEvent = original.getEventList().get(0);
+        original.setEvent(firstEvent, new EventBuilder(firstEvent).withDescription("Moved indoors").build());
+        original.removeEvent(original.getEventList().get(1));
+        original.removePerson(ALICE);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_previousGenerationRead_journalReplayed() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        // The data file was moved to its previous generation by a save that was cut short
+        CheckedDataFile dataFile = new CheckedDataFile(filePath);
+        Files.move(CheckedDataFile.getChecksumPath(filePath),
+                CheckedDataFile.getChecksumPath(dataFile.getPreviousGenerationPath()));
+        Files.move(filePath, dataFile.getPreviousGenerationPath());
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_snapshotsOfSameAddressBook_onlyChangesJournaled() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(new AddressBookSnapshot(original));
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        jsonAddressBookStorage.saveAddressBook(new AddressBookSnapshot(original));
+
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalFull_compactedIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        for (int i = 0; i <= JsonAddressBookStorage.MAX_JOURNAL_CHANGES / 2; i++) {
+            original.addPerson(HOON);
+            original.removePerson(HOON);
+            jsonAddressBookStorage.saveAddressBook(original);
+        }
+
+        assertNotEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertEquals(1, Files.readAllLines(new AddressBookJournal(filePath).getFilePath()).size());
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_differentAddressBook_savedInFull() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+
+        AddressBook other = new AddressBook();
+        other.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(other);
+        assertEquals(other, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_compressed_readAsPlainStorage() throws Exception {
+        Path compressedPath = testFolder.resolve("Compressed.json");
+        Path plainPath = testFolder.resolve("Plain.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage compressedStorage = new JsonAddressBookStorage(compressedPath, Deflater.BEST_SPEED);
+        compressedStorage.saveAddressBook(original);
+        new JsonAddressBookStorage(plainPath).saveAddressBook(original);
+
+        assertTrue(JsonAddressBookStorage.isCompressed(compressedPath));
+        assertFalse(JsonAddressBookStorage.isCompressed(plainPath));
+        assertTrue(Files.size(compressedPath) < Files.size(plainPath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(compressedPath).readAddressBook().get()));
+
+        // Changes to a compressed snapshot are journaled as they are to a plain one
+        original.addPerson(HOON);
+        compressedStorage.saveAddressBook(original);
+        assertTrue(JsonAddressBookStorage.isCompressed(compressedPath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(compressedPath).readAddressBook().get()));
+    }
+
+    @Test
+    public void constructor_invalidCompressionLevel_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new JsonAddressBookStorage(testFolder.resolve("Compressed.json"), Deflater.BEST_COMPRESSION + 1));
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_previousGenerationRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        AddressBook other = new AddressBook();
+        other.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(other);
+
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(content, content.length / 2));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
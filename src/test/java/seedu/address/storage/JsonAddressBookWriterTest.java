@@ -0,0 +1,55 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalAddressBook;
+
+public class JsonAddressBookWriterTest {
+
+    @Test
+    public void write_typicalAddressBook_sameAsJackson() throws Exception {
+        assertSameAsJackson(TypicalAddressBook.getTypicalAddressBook(), "snapshot");
+    }
+
+    @Test
+    public void write_withoutSnapshotId_sameAsJackson() throws Exception {
+        assertSameAsJackson(TypicalAddressBook.getTypicalAddressBook(), null);
+    }
+
+    @Test
+    public void write_emptyAddressBook_sameAsJackson() throws Exception {
+        assertSameAsJackson(new AddressBook(), "snapshot");
+    }
+
+    @Test
+    public void write_unusualPersons_sameAsJackson() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder().withName("Zoe Tan").withPhone("91234567")
+                .withAddress("Blk 1 \"Sunny\" Ave\\2, \u00e9t\u00e9 \u65b0\u52a0\u5761").withEnrollmentYear("2024")
+                .withRoles("president", "camp leader").withTags("friends", "owesMoney").withPin(true).build());
+        addressBook.addPerson(new JsonAdaptedPerson(null, HOON.getName().fullName, HOON.getPhone().value,
+                HOON.getEmail().value, HOON.getAddress().value, false, null, null, List.of(), List.of())
+                .toModelType());
+        assertSameAsJackson(addressBook, "snapshot");
+    }
+
+    private static void assertSameAsJackson(ReadOnlyAddressBook addressBook, String snapshotId) throws IOException {
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        JsonUtil.writeJson(new JsonSerializableAddressBook(addressBook, snapshotId), expected);
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        new JsonAddressBookWriter(actual).write(addressBook, snapshotId);
+        assertEquals(expected.toString(StandardCharsets.UTF_8), actual.toString(StandardCharsets.UTF_8));
+    }
+}
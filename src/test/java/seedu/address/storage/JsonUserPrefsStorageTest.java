@@ -8,12 +8,16 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Optional;
+import java.util.zip.Deflater;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageFormat;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 
 public class JsonUserPrefsStorageTest {
@@ -62,6 +66,22 @@ public class JsonUserPrefsStorageTest {
         assertEquals(new UserPrefs(), actual);
     }
 
+    @Test
+    public void readUserPrefs_nullAddressBookFormat_jsonFormatUsed() throws DataLoadingException {
+        UserPrefs actual = readUserPrefs("NullFormatUserPrefs.json").get();
+        assertEquals(StorageFormat.JSON, actual.getAddressBookFormat());
+        assertEquals(actual, new UserPrefs(actual));
+    }
+
+    @Test
+    public void readUserPrefs_invalidCompressionLevel_noCompressionUsed() throws DataLoadingException {
+        UserPrefs actual = readUserPrefs("InvalidCompressionLevelUserPrefs.json").get();
+        assertEquals(Deflater.NO_COMPRESSION, actual.getAddressBookCompressionLevel());
+
+        ModelManager modelManager = new ModelManager(new AddressBook(), actual);
+        assertEquals(actual, modelManager.getUserPrefs());
+    }
+
     @Test
     public void readUserPrefs_extraValuesInFile_extraValuesIgnored() throws DataLoadingException {
         UserPrefs expected = getTypicalUserPrefs();
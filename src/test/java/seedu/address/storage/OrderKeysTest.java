@@ -0,0 +1,58 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.storage.OrderKeys.KEY_GAP;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class OrderKeysTest {
+
+    @Test
+    public void assign_noPreviousKeys_spacedByKeyGap() {
+        assertEquals(List.of(KEY_GAP, 2 * KEY_GAP, 3 * KEY_GAP), OrderKeys.assign(List.of("a", "b", "c"), Map.of()));
+    }
+
+    @Test
+    public void assign_itemMovedToEnd_onlyItsKeyChanged() {
+        Map<String, Long> previousKeys = keysOf(List.of("a", "b", "c", "d"));
+        List<Long> keys = OrderKeys.assign(List.of("a", "c", "d", "b"), previousKeys);
+        assertEquals(List.of(KEY_GAP, 3 * KEY_GAP, 4 * KEY_GAP, 5 * KEY_GAP), keys);
+    }
+
+    @Test
+    public void assign_itemMovedToStart_onlyItsKeyChanged() {
+        Map<String, Long> previousKeys = keysOf(List.of("a", "b", "c", "d"));
+        List<Long> keys = OrderKeys.assign(List.of("d", "a", "b", "c"), previousKeys);
+        assertEquals(List.of(KEY_GAP / 2, KEY_GAP, 2 * KEY_GAP, 3 * KEY_GAP), keys);
+    }
+
+    @Test
+    public void assign_itemsAddedAndRemoved_keptKeysUnchanged() {
+        Map<String, Long> previousKeys = keysOf(List.of("a", "b", "c"));
+        List<Long> keys = OrderKeys.assign(List.of("a", "x", "y", "c"), previousKeys);
+        assertEquals(KEY_GAP, (long) keys.get(0));
+        assertEquals(3 * KEY_GAP, (long) keys.get(3));
+        assertTrue(keys.get(0) < keys.get(1) && keys.get(1) < keys.get(2) && keys.get(2) < keys.get(3));
+    }
+
+    @Test
+    public void assign_noRoomBetweenKeys_allRenumbered() {
+        Map<String, Long> previousKeys = Map.of("a", 1L, "b", 2L);
+        assertEquals(List.of(KEY_GAP, 2 * KEY_GAP, 3 * KEY_GAP), OrderKeys.assign(List.of("a", "x", "b"),
+                previousKeys));
+    }
+
+    private static Map<String, Long> keysOf(List<String> items) {
+        Map<String, Long> keys = new HashMap<>();
+        List<Long> assigned = OrderKeys.assign(items, Map.of());
+        for (int i = 0; i < items.size(); i++) {
+            keys.put(items.get(i), assigned.get(i));
+        }
+        return keys;
+    }
+}
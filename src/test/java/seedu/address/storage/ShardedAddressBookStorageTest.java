@@ -0,0 +1,239 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.PersonReference;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalAddressBook;
+
+public class ShardedAddressBookStorageTest {
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new ShardedAddressBookStorage(testFolder).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingDirectory_emptyResult() throws Exception {
+        Path directory = testFolder.resolve("missing");
+        assertFalse(new ShardedAddressBookStorage(directory).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_shardedByYear_success() throws Exception {
+        Path directory = testFolder.resolve("addressBook");
+        AddressBook original = getShardedAddressBook();
+        new ShardedAddressBookStorage(directory).saveAddressBook(original);
+
+        JsonShardManifest manifest = readManifest(directory);
+        assertEquals(2, manifest.getPersonShards().size());
+        assertTrue(manifest.getPersonShards().containsKey("2025"));
+        assertTrue(manifest.getPersonShards().containsKey("none"));
+        assertEquals(2, manifest.getEventShards().size());
+        assertTrue(manifest.getEventShards().containsKey("2024"));
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(directory).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_personEdited_onlyItsShardsRewritten() throws Exception {
+        Path directory = testFolder.resolve("addressBook");
+        AddressBook original = getShardedAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory);
+        storage.saveAddressBook(original);
+        JsonShardManifest before = readManifest(directory);
+
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("91112222").build());
+        storage.saveAddressBook(original);
+        JsonShardManifest after = readManifest(directory);
+
+        assertNotEquals(before.getPersonShards().get("2025"), after.getPersonShards().get("2025"));
+        assertEquals(before.getPersonShards().get("none"), after.getPersonShards().get("none"));
+        // The edited person has a new id, which replaces the old one in the 2025 meeting they attended
+        assertNotEquals(before.getEventShards().get("2025"), after.getEventShards().get("2025"));
+        assertEquals(before.getEventShards().get("2024"), after.getEventShards().get("2024"));
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(directory).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_attendanceChanged_onlyItsEventShardRewritten() throws Exception {
+        Path directory = testFolder.resolve("addressBook");
+        AddressBook original = getShardedAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory);
+        storage.saveAddressBook(original);
+        JsonShardManifest before = readManifest(directory);
+
+        Event event = original.getEventList().stream()
+                .filter(e -> e.getDuration().startDate.getYear() == 2024).findFirst().get();
+        Event editedEvent = new Event(event);
+        editedEvent.getAttendance().add(new PersonReference(BENSON));
+        original.setEvent(event, editedEvent);
+        storage.saveAddressBook(original);
+        JsonShardManifest after = readManifest(directory);
+
+        assertEquals(before.getPersonShards(), after.getPersonShards());
+        assertNotEquals(before.getEventShards().get("2024"), after.getEventShards().get("2024"));
+        assertEquals(before.getEventShards().get("2025"), after.getEventShards().get("2025"));
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(directory).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_personMovedAndEventRemoved_orderKeptWithoutRewritingOtherShards() throws Exception {
+        Path directory = testFolder.resolve("addressBook");
+        AddressBook original = getShardedAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory);
+        storage.saveAddressBook(original);
+        JsonShardManifest before = readManifest(directory);
+
+        // Editing a person keeps their id but moves them after the persons that sort equally to them
+        Person alice = original.getPersonList().stream().filter(ALICE::isSamePerson).findFirst().get();
+        original.setPerson(alice, new Person(alice.getId(), alice.getName(), new Phone("91112222"),
+                alice.getEmail(), alice.getAddress(), alice.getPin(), alice.getRoles(), alice.getTags(),
+                alice.getEmergencyContact(), alice.getEnrollmentYear()));
+        original.removeEvent(original.getEventList().get(0));
+        storage.saveAddressBook(original);
+        JsonShardManifest after = readManifest(directory);
+
+        assertNotEquals(before.getPersonShards().get("none"), after.getPersonShards().get("none"));
+        assertEquals(before.getPersonShards().get("2025"), after.getPersonShards().get("2025"));
+        assertEquals(before.getEventShards().get("2024"), after.getEventShards().get("2024"));
+        assertFalse(Files.readString(directory.resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME))
+                .contains("Order"));
+        AddressBook readBack = new AddressBook(new ShardedAddressBookStorage(directory).readAddressBook().get());
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+        assertEquals(original.getEventList(), readBack.getEventList());
+    }
+
+    @Test
+    public void saveAddressBook_savedRepeatedly_unusedShardsDeleted() throws Exception {
+        Path directory = testFolder.resolve("addressBook");
+        AddressBook original = getShardedAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory);
+        storage.saveAddressBook(original);
+        String firstShard = readManifest(directory).getPersonShards().get("none");
+
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        // Kept for the previous generation of the manifest
+        assertTrue(Files.exists(directory.resolve(firstShard)));
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(directory.resolve(firstShard)));
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(directory).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedShard_previousGenerationRead() throws Exception {
+        Path directory = testFolder.resolve("addressBook");
+        AddressBook original = getShardedAddressBook();
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory);
+        storage.saveAddressBook(original);
+        AddressBook saved = new AddressBook(new ShardedAddressBookStorage(directory).readAddressBook().get());
+
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("91112222").build());
+        storage.saveAddressBook(original);
+        Files.writeString(directory.resolve(readManifest(directory).getPersonShards().get("2025")), "{\"pers");
+
+        assertEquals(saved, new AddressBook(new ShardedAddressBookStorage(directory).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_missingShardWithoutPreviousGeneration_throwsDataLoadingException() throws Exception {
+        Path directory = testFolder.resolve("addressBook");
+        new ShardedAddressBookStorage(directory).saveAddressBook(getShardedAddressBook());
+        Files.delete(directory.resolve(readManifest(directory).getPersonShards().get("2025")));
+
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(directory).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_shardWithoutOrderKeys_throwsDataLoadingException() throws Exception {
+        Path directory = testFolder.resolve("addressBook");
+        new ShardedAddressBookStorage(directory).saveAddressBook(getShardedAddressBook());
+        Path shardPath = directory.resolve(readManifest(directory).getPersonShards().get("2025"));
+        Map<?, ?> shard = JsonUtil.readJsonFile(shardPath, Map.class).get();
+        shard.remove(JsonAddressBookWriter.ORDER_KEYS_FIELD);
+        JsonUtil.saveJsonFile(shard, shardPath);
+        Files.delete(CheckedDataFile.getChecksumPath(shardPath));
+
+        assertThrows(DataLoadingException.class, () -> new ShardedAddressBookStorage(directory).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_overSingleFile_importedFileKept() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getShardedAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        AddressBook imported = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, imported);
+
+        storage.saveAddressBook(imported);
+        assertTrue(Files.isDirectory(filePath));
+        assertTrue(Files.isRegularFile(new CheckedDataFile(filePath).getPreviousGenerationPath()));
+        assertFalse(Files.exists(testFolder.resolve("addressBook.json.tmp-dir")));
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_importCutShort_importedFileRead() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook original = getShardedAddressBook();
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(filePath);
+        jsonStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        jsonStorage.saveAddressBook(original);
+
+        // The data file was moved to its previous generation, but the shards were not moved into its place
+        Path importedPath = new CheckedDataFile(filePath).getPreviousGenerationPath();
+        Files.move(CheckedDataFile.getChecksumPath(filePath), CheckedDataFile.getChecksumPath(importedPath));
+        Files.move(filePath, importedPath);
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+
+        Files.createDirectories(filePath);
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new ShardedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    /**
+     * Returns the typical address book with an event in 2024, and persons with and without an enrollment year.
+     */
+    private static AddressBook getShardedAddressBook() {
+        AddressBook addressBook = TypicalAddressBook.getTypicalAddressBook();
+        addressBook.addEvent(new EventBuilder().withName("Orientation").withDuration("5/3/2024").build());
+        return addressBook;
+    }
+
+    private static JsonShardManifest readManifest(Path directory) throws Exception {
+        return JsonUtil.readJsonFile(directory.resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME),
+                JsonShardManifest.class).get();
+    }
+}
@@ -2,15 +2,18 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
+import java.util.zip.Deflater;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageFormat;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
@@ -47,6 +50,53 @@ public class StorageManagerTest {
         assertEquals(original, retrieved);
     }
 
+    @Test
+    public void constructor_binaryFormatInUserPrefs_savesBinarySnapshot() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(getTempFilePath("ab"));
+        userPrefs.setAddressBookFormat(StorageFormat.BINARY);
+        StorageManager binaryStorageManager =
+                new StorageManager(userPrefs, new JsonUserPrefsStorage(getTempFilePath("prefs")));
+
+        AddressBook original = getTypicalAddressBook();
+        binaryStorageManager.saveAddressBook(original);
+        assertEquals(StorageFormat.BINARY, AddressBookFormatConverter.detectFormat(getTempFilePath("ab")));
+        assertEquals(original, new AddressBook(binaryStorageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void constructor_formatSwitchedFromShardedToJson_savesJsonFile() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(getTempFilePath("ab"));
+        userPrefs.setAddressBookFormat(StorageFormat.SHARDED);
+        AddressBook original = getTypicalAddressBook();
+        new StorageManager(userPrefs, new JsonUserPrefsStorage(getTempFilePath("prefs"))).saveAddressBook(original);
+
+        userPrefs.setAddressBookFormat(StorageFormat.JSON);
+        StorageManager jsonStorageManager =
+                new StorageManager(userPrefs, new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        AddressBook readBack = new AddressBook(jsonStorageManager.readAddressBook().get());
+        assertEquals(original, readBack);
+        jsonStorageManager.saveAddressBook(readBack);
+        assertEquals(StorageFormat.JSON, AddressBookFormatConverter.detectFormat(getTempFilePath("ab")));
+        jsonStorageManager.saveAddressBook(readBack);
+        assertEquals(original, new AddressBook(jsonStorageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void constructor_compressionLevelInUserPrefs_savesCompressedFile() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(getTempFilePath("ab"));
+        userPrefs.setAddressBookCompressionLevel(Deflater.BEST_COMPRESSION);
+        StorageManager compressedStorageManager =
+                new StorageManager(userPrefs, new JsonUserPrefsStorage(getTempFilePath("prefs")));
+
+        AddressBook original = getTypicalAddressBook();
+        compressedStorageManager.saveAddressBook(original);
+        assertTrue(JsonAddressBookStorage.isCompressed(getTempFilePath("ab")));
+        assertEquals(original, new AddressBook(compressedStorageManager.readAddressBook().get()));
+    }
+
     @Test
     public void addressBookReadSave() throws Exception {
         /*
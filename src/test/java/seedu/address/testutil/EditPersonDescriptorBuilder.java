@@ -115,7 +115,7 @@ public class EditPersonDescriptorBuilder {
      * that we are building.
      */
     public EditPersonDescriptorBuilder withRoles(String... roles) {
-        Set<Role> roleSet = Stream.of(roles).map(Role::new).collect(Collectors.toSet());
+        Set<Role> roleSet = Stream.of(roles).map(Role::of).collect(Collectors.toSet());
         descriptor.setRoles(roleSet);
         return this;
     }
@@ -125,7 +125,7 @@ public class EditPersonDescriptorBuilder {
      * that we are building.
      */
     public EditPersonDescriptorBuilder withTags(String... tags) {
-        Set<Tag> tagSet = Stream.of(tags).map(Tag::new).collect(Collectors.toSet());
+        Set<Tag> tagSet = Stream.of(tags).map(Tag::of).collect(Collectors.toSet());
         descriptor.setTags(tagSet);
         return this;
     }
@@ -2,6 +2,7 @@ package seedu.address.testutil;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.beans.property.ObjectProperty;
@@ -103,6 +104,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public String explainFilteredPersonList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         throw new AssertionError("This method should not be called.");
@@ -128,6 +134,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public Set<Event> getEventsAttendedBy(Person person) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void deleteEvent(Event event) {
         throw new AssertionError("This method should not be called.");
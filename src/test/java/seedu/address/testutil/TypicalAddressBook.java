@@ -24,22 +24,26 @@ public class TypicalAddressBook {
         for (Person person : getTypicalPersons()) {
             ab.addPerson(person);
         }
-        for (Event event : getTypicalEvents()) {
-            ab.addEvent(new Event(event));
-        }
-
-        // First person attends all events.
+        // Attendance is filled in before each event is added, so that the address book can index it.
         Person firstPerson = ab.getPersonList().get(0);
-        for (Event event : ab.getEventList()) {
-            event.getAttendance().add(new PersonReference(firstPerson));
-        }
-
-        // First event is attended by all people.
-        Event firstEvent = ab.getEventList().get(0);
-        for (Person person : ab.getPersonList()) {
-            if (!person.equals(firstPerson)) {
-                firstEvent.getAttendance().add(new PersonReference(person));
+        boolean isFirstEvent = true;
+        for (Event event : getTypicalEvents()) {
+            Event eventToAdd = new Event(event);
+
+            // First person attends all events.
+            eventToAdd.getAttendance().add(new PersonReference(firstPerson));
+
+            // First event is attended by all people.
+            if (isFirstEvent) {
+                for (Person person : ab.getPersonList()) {
+                    if (!person.equals(firstPerson)) {
+                        eventToAdd.getAttendance().add(new PersonReference(person));
+                    }
+                }
+                isFirstEvent = false;
             }
+
+            ab.addEvent(eventToAdd);
         }
 
         return ab;